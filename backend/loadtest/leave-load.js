@@ -0,0 +1,225 @@
+// k6 load test for the leave management API, run against data from LoadTestDataSeeder.
+//
+//   k6 run loadtest/leave-load.js                      (or scripts/load-test.sh, which also starts the backend)
+//
+// Scenarios run one after another so each gets its own latency numbers:
+//   login_storm        POST /api/auth/login at a constant arrival rate
+//   apply_burst        POST /api/employee/leaves, ramping up to a burst and back
+//   dashboard_refresh  manager dashboard: pending summary, all-leaves summary, own balance
+//   approvals          manager picks a pending leave from their queue and approves or rejects it
+//
+// Environment: BASE_URL, STAGE_SECONDS (length of each scenario), LOGIN_RATE, APPLY_PEAK_RATE,
+// DASHBOARD_VUS, APPROVAL_VUS, EMPLOYEES, MANAGERS (how many seeded users to log in during setup),
+// PASSWORD, REPORT_DIR.
+
+import http from 'k6/http';
+import exec from 'k6/execution';
+import { check, sleep } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080/api';
+const STAGE_SECONDS = parseInt(__ENV.STAGE_SECONDS || '60');
+const LOGIN_RATE = parseInt(__ENV.LOGIN_RATE || '50');
+const APPLY_PEAK_RATE = parseInt(__ENV.APPLY_PEAK_RATE || '100');
+const DASHBOARD_VUS = parseInt(__ENV.DASHBOARD_VUS || '30');
+const APPROVAL_VUS = parseInt(__ENV.APPROVAL_VUS || '10');
+const EMPLOYEES = parseInt(__ENV.EMPLOYEES || '200');
+const MANAGERS = parseInt(__ENV.MANAGERS || '40');
+const PASSWORD = __ENV.PASSWORD || 'loadtest123';
+const REPORT_DIR = __ENV.REPORT_DIR || 'loadtest/reports';
+
+const SCENARIOS = ['login_storm', 'apply_burst', 'dashboard_refresh', 'approvals'];
+const LEAVE_TYPES = ['ANNUAL_LEAVE', 'ANNUAL_LEAVE', 'CASUAL_LEAVE', 'CASUAL_LEAVE', 'SICK_LEAVE', 'UNPAID_LEAVE'];
+const JSON_HEADERS = { 'Content-Type': 'application/json' };
+
+function stageStart(index) {
+    // 5 s gap between stages so one scenario's tail does not overlap the next
+    return `${index * (STAGE_SECONDS + 5)}s`;
+}
+
+const thresholds = {
+    checks: ['rate>0.95'],
+};
+for (const scenario of SCENARIOS) {
+    // Declaring per-scenario thresholds makes k6 keep per-scenario sub-metrics for the report
+    thresholds[`http_req_duration{scenario:${scenario}}`] = ['p(95)<2000'];
+    thresholds[`http_reqs{scenario:${scenario}}`] = ['count>0'];
+    thresholds[`http_req_failed{scenario:${scenario}}`] = ['rate<0.05'];
+}
+
+export const options = {
+    setupTimeout: '5m',
+    summaryTrendStats: ['avg', 'min', 'med', 'p(95)', 'p(99)', 'max'],
+    thresholds,
+    scenarios: {
+        login_storm: {
+            executor: 'constant-arrival-rate',
+            exec: 'loginStorm',
+            rate: LOGIN_RATE,
+            timeUnit: '1s',
+            duration: `${STAGE_SECONDS}s`,
+            preAllocatedVUs: LOGIN_RATE,
+            maxVUs: LOGIN_RATE * 4,
+            startTime: stageStart(0),
+        },
+        apply_burst: {
+            executor: 'ramping-arrival-rate',
+            exec: 'applyBurst',
+            startRate: Math.max(1, Math.floor(APPLY_PEAK_RATE / 10)),
+            timeUnit: '1s',
+            preAllocatedVUs: APPLY_PEAK_RATE,
+            maxVUs: APPLY_PEAK_RATE * 4,
+            stages: [
+                { target: APPLY_PEAK_RATE, duration: `${Math.floor(STAGE_SECONDS / 3)}s` },
+                { target: APPLY_PEAK_RATE, duration: `${Math.floor(STAGE_SECONDS / 3)}s` },
+                { target: Math.max(1, Math.floor(APPLY_PEAK_RATE / 10)), duration: `${Math.floor(STAGE_SECONDS / 3)}s` },
+            ],
+            startTime: stageStart(1),
+        },
+        dashboard_refresh: {
+            executor: 'constant-vus',
+            exec: 'dashboardRefresh',
+            vus: DASHBOARD_VUS,
+            duration: `${STAGE_SECONDS}s`,
+            startTime: stageStart(2),
+        },
+        approvals: {
+            executor: 'constant-vus',
+            exec: 'approvals',
+            vus: APPROVAL_VUS,
+            duration: `${STAGE_SECONDS}s`,
+            startTime: stageStart(3),
+        },
+    },
+};
+
+function login(username) {
+    return http.post(`${BASE_URL}/auth/login`, JSON.stringify({ username, password: PASSWORD }),
+        { headers: JSON_HEADERS, tags: { name: 'POST /auth/login' } });
+}
+
+function tokensFor(prefix, count) {
+    const tokens = [];
+    for (let i = 0; i < count; i++) {
+        const res = login(`${prefix}${i}`);
+        if (res.status === 200) {
+            tokens.push({ username: `${prefix}${i}`, token: res.json('token') });
+        }
+    }
+    return tokens;
+}
+
+export function setup() {
+    const employees = tokensFor('lt_emp_', EMPLOYEES);
+    const managers = tokensFor('lt_mgr_', MANAGERS);
+    if (employees.length === 0 || managers.length === 0) {
+        throw new Error(`No seeded users could log in at ${BASE_URL}; start the backend with the loadtest profile`);
+    }
+    return { employees, managers };
+}
+
+function auth(token, name) {
+    return { headers: Object.assign({ Authorization: `Bearer ${token}`, 'Accept-Encoding': 'gzip' }, JSON_HEADERS), tags: { name } };
+}
+
+export function loginStorm(data) {
+    const user = data.employees[Math.floor(Math.random() * data.employees.length)];
+    const res = login(user.username);
+    check(res, { 'login 200': (r) => r.status === 200 });
+}
+
+export function applyBurst(data) {
+    // Each iteration gets a distinct (employee, date) pair, so requests never collide on the overlap check
+    const iteration = exec.scenario.iterationInTest;
+    const employee = data.employees[iteration % data.employees.length];
+    const start = new Date();
+    start.setUTCDate(start.getUTCDate() + 120 + Math.floor(iteration / data.employees.length));
+    const day = start.toISOString().substring(0, 10);
+
+    const body = {
+        startDate: day,
+        endDate: day,
+        leaveType: LEAVE_TYPES[iteration % LEAVE_TYPES.length],
+        reason: 'Load test leave request',
+    };
+    const res = http.post(`${BASE_URL}/employee/leaves`, JSON.stringify(body), auth(employee.token, 'POST /employee/leaves'));
+    check(res, { 'apply 2xx': (r) => r.status >= 200 && r.status < 300 });
+}
+
+export function dashboardRefresh(data) {
+    const manager = data.managers[(exec.vu.idInTest - 1) % data.managers.length];
+    const responses = http.batch([
+        ['GET', `${BASE_URL}/manager/leaves/pending/summary`, null, auth(manager.token, 'GET /manager/leaves/pending/summary')],
+        ['GET', `${BASE_URL}/manager/leaves/summary`, null, auth(manager.token, 'GET /manager/leaves/summary')],
+        ['GET', `${BASE_URL}/employee/leaves/balance`, null, auth(manager.token, 'GET /employee/leaves/balance')],
+    ]);
+    check(responses, { 'dashboard 200': (rs) => rs.every((r) => r.status === 200) });
+    // Dashboards refresh on a timer, not back to back
+    sleep(1 + Math.random() * 2);
+}
+
+export function approvals(data) {
+    const manager = data.managers[(exec.vu.idInTest - 1) % data.managers.length];
+    const queue = http.get(`${BASE_URL}/manager/leaves/pending/summary`, auth(manager.token, 'GET /manager/leaves/pending/summary'));
+    if (!check(queue, { 'queue 200': (r) => r.status === 200 })) {
+        return;
+    }
+
+    const pending = queue.json();
+    if (pending.length === 0) {
+        sleep(1);
+        return;
+    }
+
+    const leave = pending[Math.floor(Math.random() * pending.length)];
+    const status = Math.random() < 0.85 ? 'APPROVED' : 'REJECTED';
+    const params = auth(manager.token, 'PUT /manager/leaves/{id}/approve');
+    // Two VUs can share a manager and race for the same leave; "already processed" is expected then
+    params.responseCallback = http.expectedStatuses({ min: 200, max: 299 }, 400);
+    const res = http.put(`${BASE_URL}/manager/leaves/${leave.id}/approve`,
+        JSON.stringify({ status, managerComments: 'Processed by load test' }), params);
+    check(res, { 'decision accepted': (r) => r.status === 200 || r.status === 400 });
+    sleep(0.5);
+}
+
+function metricValues(data, name) {
+    const metric = data.metrics[name];
+    return metric ? metric.values : {};
+}
+
+function row(cells, widths) {
+    return cells.map((cell, i) => String(cell).padEnd(widths[i])).join(' ') + '\n';
+}
+
+export function handleSummary(data) {
+    const widths = [20, 10, 12, 10, 10, 10, 10, 10];
+    let report = row(['scenario', 'requests', 'req_per_s', 'p50_ms', 'p95_ms', 'p99_ms', 'max_ms', 'failed'], widths);
+
+    for (const scenario of SCENARIOS) {
+        const reqs = metricValues(data, `http_reqs{scenario:${scenario}}`);
+        const duration = metricValues(data, `http_req_duration{scenario:${scenario}}`);
+        const failed = metricValues(data, `http_req_failed{scenario:${scenario}}`);
+        const fixed = (value) => (value === undefined ? '-' : value.toFixed(1));
+        // Throughput over the scenario's own window rather than the whole run
+        const perSecond = reqs.count !== undefined ? (reqs.count / STAGE_SECONDS).toFixed(1) : '-';
+        report += row([
+            scenario,
+            reqs.count !== undefined ? reqs.count : 0,
+            perSecond,
+            fixed(duration.med),
+            fixed(duration['p(95)']),
+            fixed(duration['p(99)']),
+            fixed(duration.max),
+            failed.rate !== undefined ? `${(failed.rate * 100).toFixed(2)}%` : '-',
+        ], widths);
+    }
+
+    const total = metricValues(data, 'http_reqs');
+    report += `\ntotal requests: ${total.count}, overall ${total.rate !== undefined ? total.rate.toFixed(1) : '-'} req/s, ` +
+        `checks passed: ${(metricValues(data, 'checks').rate * 100).toFixed(2)}%\n`;
+
+    return {
+        stdout: report,
+        [`${REPORT_DIR}/summary.txt`]: report,
+        [`${REPORT_DIR}/summary.json`]: JSON.stringify(data, null, 2),
+    };
+}
@@ -0,0 +1,59 @@
+#!/bin/bash
+
+# List payload benchmark - bytes on wire (plain and gzip) and server-side allocation per request
+# for the full and summary list endpoints.
+#
+# Usage: scripts/list-payload-benchmark.sh <manager-jwt> [backend-pid] [requests]
+#   backend-pid enables allocation measurement through a JFR recording (needs jcmd and jfr on PATH).
+
+TOKEN=$1
+PID=$2
+REQUESTS=${3:-200}
+BASE=${BASE_URL:-http://localhost:8080/api}
+
+if [ -z "$TOKEN" ]; then
+    echo "Usage: $0 <manager-jwt> [backend-pid] [requests]"
+    exit 1
+fi
+
+ENDPOINTS=(
+    "/manager/leaves"
+    "/manager/leaves/summary"
+    "/manager/leaves/pending"
+    "/manager/leaves/pending/summary"
+)
+
+bytes() {
+    curl -s -o /dev/null -w "%{size_download}" -H "Authorization: Bearer $TOKEN" "$@"
+}
+
+# Sums the sampled allocation weight of request-handling threads, divided by the request count
+allocated_per_request() {
+    local endpoint=$1
+    local recording=/tmp/list-payload-$$.jfr
+
+    jcmd "$PID" JFR.start name=listbench settings=profile filename="$recording" > /dev/null
+    for _ in $(seq 1 "$REQUESTS"); do
+        curl -s -o /dev/null -H "Authorization: Bearer $TOKEN" -H "Accept-Encoding: gzip" "$BASE$endpoint"
+    done
+    jcmd "$PID" JFR.stop name=listbench > /dev/null
+
+    jfr print --json --events jdk.ObjectAllocationSample "$recording" | python3 -c '
+import json, sys
+events = json.load(sys.stdin)["recording"]["events"]
+total = sum(e["values"]["weight"] for e in events
+            if e["values"]["eventThread"]["javaName"].startswith("http-nio"))
+print(total // int(sys.argv[1]))' "$REQUESTS"
+    rm -f "$recording"
+}
+
+printf "%-34s %-12s %-12s %-16s\n" "endpoint" "plain_bytes" "gzip_bytes" "alloc_per_req"
+for endpoint in "${ENDPOINTS[@]}"; do
+    plain=$(bytes "$BASE$endpoint")
+    gzip=$(bytes -H "Accept-Encoding: gzip" "$BASE$endpoint")
+    alloc="-"
+    if [ -n "$PID" ]; then
+        alloc=$(allocated_per_request "$endpoint")
+    fi
+    printf "%-34s %-12s %-12s %-16s\n" "$endpoint" "$plain" "$gzip" "$alloc"
+done
@@ -0,0 +1,65 @@
+#!/bin/bash
+
+# Load test - starts the backend with seeded data, runs loadtest/leave-load.js with k6 and stops the backend.
+# The report (p50/p95/p99 latency and throughput per scenario) is written to loadtest/reports/<timestamp>/.
+#
+# Usage: scripts/load-test.sh [h2|mysql] [stage-seconds]
+#   h2     in-memory H2 in MySQL mode, seeded on every start (mvn -Ploadtest clean package)
+#   mysql  the database in application.properties, seeded once (seeding is skipped if lt_admin exists)
+#
+# Uses a local k6 binary when available, otherwise the grafana/k6 Docker image.
+# Extra k6 settings (LOGIN_RATE, APPLY_PEAK_RATE, DASHBOARD_VUS, ...) are passed through from the environment.
+
+MODE=${1:-h2}
+STAGE_SECONDS=${2:-60}
+PORT=${PORT:-18080}
+JAR=target/leave-management-backend-1.0.0.jar
+BASE_URL="http://localhost:${PORT}/api"
+REPORT_DIR="loadtest/reports/$(date +%Y%m%d-%H%M%S)-$MODE"
+
+cd "$(dirname "$0")/.." || exit 1
+
+case "$MODE" in
+    h2)    ARGS=(--spring.profiles.active=loadtest) ;;
+    mysql) ARGS=(--app.loadtest.seed.enabled=true --spring.jpa.show-sql=false --logging.level.com.leavemanagement=INFO) ;;
+    *)     echo "Unknown mode: $MODE (expected h2 or mysql)"; exit 1 ;;
+esac
+
+# Always a clean build: package does not rebuild an up-to-date jar, so one left by a build without
+# the loadtest profile (no H2 driver) would otherwise be reused
+mvn -B -q -Ploadtest -DskipTests clean package || exit 1
+
+mkdir -p "$REPORT_DIR"
+PORT=$PORT java -Xms1g -Xmx1g -jar "$JAR" "${ARGS[@]}" > "$REPORT_DIR/backend.log" 2>&1 &
+BACKEND_PID=$!
+trap 'kill $BACKEND_PID 2> /dev/null; wait $BACKEND_PID 2> /dev/null' EXIT
+
+# Seeding runs after the port opens, so wait until a seeded user can log in
+echo "Waiting for the backend and seeded data..."
+for _ in $(seq 1 300); do
+    status=$(curl -s -o /dev/null -w "%{http_code}" -X POST -H "Content-Type: application/json" \
+        -d '{"username":"lt_admin","password":"loadtest123"}' "$BASE_URL/auth/login")
+    [ "$status" = "200" ] && break
+    if ! kill -0 $BACKEND_PID 2> /dev/null; then
+        echo "Backend exited, see $REPORT_DIR/backend.log"
+        exit 1
+    fi
+    sleep 1
+done
+grep -m1 "Seeded" "$REPORT_DIR/backend.log"
+
+K6_ENV=(-e BASE_URL="$BASE_URL" -e STAGE_SECONDS="$STAGE_SECONDS" -e REPORT_DIR="$REPORT_DIR")
+for name in LOGIN_RATE APPLY_PEAK_RATE DASHBOARD_VUS APPROVAL_VUS EMPLOYEES MANAGERS; do
+    [ -n "${!name}" ] && K6_ENV+=(-e "$name=${!name}")
+done
+
+if command -v k6 > /dev/null; then
+    k6 run --quiet "${K6_ENV[@]}" loadtest/leave-load.js
+else
+    docker run --rm --network host -u "$(id -u):$(id -g)" -v "$PWD:/work" -w /work \
+        grafana/k6 run --quiet "${K6_ENV[@]}" loadtest/leave-load.js
+fi
+K6_EXIT=$?
+
+echo "Report: $REPORT_DIR/summary.txt"
+exit $K6_EXIT
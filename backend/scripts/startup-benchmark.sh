@@ -0,0 +1,57 @@
+#!/bin/bash
+
+# Startup benchmark - time to first successful request on /api/auth/login and resident memory
+#
+# Usage: scripts/startup-benchmark.sh [jvm|fast|cds|native] [runs]
+#   jvm     java -jar target/leave-management-backend-1.0.0.jar   (mvn clean package)
+#   fast    same jar with the fast-startup profile (lazy init, deferred repositories)
+#   cds     fast-startup profile on the AppCDS archive           (mvn -Pcds package)
+#   native  target/leave-management-backend                        (mvn -Pnative native:compile)
+#
+# Requires MySQL to be reachable with the settings in application.properties.
+
+MODE=${1:-jvm}
+RUNS=${2:-5}
+PORT=${PORT:-18080}
+JAR=target/leave-management-backend-1.0.0.jar
+CDS_JAR=target/cds/leave-management-backend-1.0.0-cds.jar
+CDS_ARCHIVE=target/cds/app.jsa
+NATIVE=target/leave-management-backend
+URL="http://localhost:${PORT}/api/auth/login"
+BODY='{"username":"startup-probe","password":"startup-probe"}'
+
+cd "$(dirname "$0")/.." || exit 1
+
+case "$MODE" in
+    jvm)    CMD=(java -jar "$JAR") ;;
+    fast)   CMD=(java -Dspring.profiles.active=fast-startup -jar "$JAR") ;;
+    cds)    CMD=(java -XX:SharedArchiveFile="$CDS_ARCHIVE" -Dspring.profiles.active=fast-startup -jar "$CDS_JAR") ;;
+    native) CMD=("$NATIVE") ;;
+    *)      echo "Unknown mode: $MODE (expected jvm, fast, cds or native)"; exit 1 ;;
+esac
+
+echo "Mode: $MODE, runs: $RUNS"
+printf "%-5s %-22s %-10s\n" "run" "first_request_ms" "rss_mb"
+
+for run in $(seq 1 "$RUNS"); do
+    start=$(date +%s%N)
+    PORT=$PORT "${CMD[@]}" > /tmp/startup-benchmark-$MODE.log 2>&1 &
+    pid=$!
+
+    # Any HTTP response (a 400 for unknown credentials is expected) means the app is serving
+    until status=$(curl -s -o /dev/null -w "%{http_code}" -H "Content-Type: application/json" \
+            -d "$BODY" "$URL") && [ "$status" != "000" ]; do
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo "Application exited early, see /tmp/startup-benchmark-$MODE.log"
+            exit 1
+        fi
+        sleep 0.05
+    done
+    end=$(date +%s%N)
+
+    rss_kb=$(awk '/VmRSS/ {print $2}' "/proc/$pid/status")
+    printf "%-5s %-22s %-10s\n" "$run" "$(( (end - start) / 1000000 ))" "$(( rss_kb / 1024 ))"
+
+    kill "$pid"
+    wait "$pid" 2>/dev/null
+done
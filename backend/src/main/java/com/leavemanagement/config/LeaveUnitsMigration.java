@@ -0,0 +1,85 @@
+package com.leavemanagement.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+
+/**
+ * Converts day-based columns from before fixed-point leave units to minutes, then drops them
+ * (see database/migrations/038_fixed_point_leave_units.sql). Runs as the first lifecycle phase of
+ * startup, once Hibernate has added the new columns and before the web server accepts requests; on
+ * a migrated schema it only reads metadata. Each step recomputes from the old column, so an
+ * interrupted run is completed on the next start. Disabled with app.leave.units-migration.enabled=false
+ * (the database-less AppCDS training run does so).
+ */
+@Component
+@DependsOn("entityManagerFactory")
+@ConditionalOnProperty(name = "app.leave.units-migration.enabled", havingValue = "true", matchIfMissing = true)
+public class LeaveUnitsMigration implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(LeaveUnitsMigration.class);
+
+    // table, old column, conversion to minutes (one day = 480 minutes, see LeaveUnits)
+    private static final String[][] STEPS = {
+        {"users", "leave_balance", "UPDATE users SET leave_balance_minutes = ROUND(leave_balance * 480)"},
+        {"leaves", "number_of_days", "UPDATE leaves SET duration_minutes = number_of_days * 480, portion = 'FULL_DAY'"},
+        {"leaves_archive", "number_of_days", "UPDATE leaves_archive SET duration_minutes = number_of_days * 480, portion = 'FULL_DAY'"},
+        {"leave_audit_log", "balance_delta", "UPDATE leave_audit_log SET balance_delta_minutes = ROUND(balance_delta * 480)"}
+    };
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private volatile boolean migrated;
+
+    @Override
+    public void start() {
+        migrate();
+        migrated = true;
+    }
+
+    @Override
+    public void stop() {
+    }
+
+    @Override
+    public boolean isRunning() {
+        return migrated;
+    }
+
+    // Before every other lifecycle bean, the embedded web server and the schedulers included
+    @Override
+    public int getPhase() {
+        return Integer.MIN_VALUE;
+    }
+
+    public void migrate() {
+        for (String[] step : STEPS) {
+            if (columnExists(step[0], step[1])) {
+                int rows = jdbcTemplate.update(step[2]);
+                jdbcTemplate.execute("ALTER TABLE " + step[0] + " DROP COLUMN " + step[1]);
+                log.info("Converted {}.{} to minutes for {} rows", step[0], step[1], rows);
+            }
+        }
+    }
+
+    private boolean columnExists(String table, String column) {
+        Boolean exists = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            boolean upperCase = metaData.storesUpperCaseIdentifiers();
+            try (ResultSet columns = metaData.getColumns(connection.getCatalog(), null,
+                    upperCase ? table.toUpperCase() : table, upperCase ? column.toUpperCase() : column)) {
+                return columns.next();
+            }
+        });
+        return Boolean.TRUE.equals(exists);
+    }
+}
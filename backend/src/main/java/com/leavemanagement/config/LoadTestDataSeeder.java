@@ -0,0 +1,328 @@
+package com.leavemanagement.config;
+
+import com.leavemanagement.model.Leave.DayPortion;
+import com.leavemanagement.model.Leave.LeaveStatus;
+import com.leavemanagement.model.Leave.LeaveType;
+import com.leavemanagement.model.LeaveUnits;
+import com.leavemanagement.security.TenantContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Seeds users, user_roles, user_hierarchy and leaves for the load tests in loadtest/. The same
+ * app.loadtest.seed.random-seed always produces the same organisation and history, relative to today.
+ * Every seeded user has the password app.loadtest.seed.password:
+ * lt_admin, lt_mgr_{n} (department heads and team leads) and lt_emp_{n}.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.loadtest.seed", name = "enabled", havingValue = "true")
+public class LoadTestDataSeeder implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadTestDataSeeder.class);
+
+    private static final String[] DEPARTMENTS = {
+        "Engineering", "Sales", "Operations", "Support", "Finance", "Human Resources", "Marketing"
+    };
+    private static final int[] DEPARTMENT_WEIGHTS = {35, 20, 15, 12, 8, 5, 5};
+
+    private static final LeaveType[] LEAVE_TYPES = {
+        LeaveType.ANNUAL_LEAVE, LeaveType.CASUAL_LEAVE, LeaveType.SICK_LEAVE,
+        LeaveType.UNPAID_LEAVE, LeaveType.PATERNITY_LEAVE, LeaveType.MATERNITY_LEAVE
+    };
+    private static final int[] LEAVE_TYPE_WEIGHTS = {40, 25, 25, 6, 2, 2};
+
+    private static final String[] FIRST_NAMES = {
+        "Aarav", "Priya", "Rohan", "Ananya", "Vikram", "Meera", "Arjun", "Kavya", "Rahul", "Sneha",
+        "James", "Maria", "David", "Sofia", "Daniel", "Emma", "Lucas", "Olivia", "Noah", "Chen"
+    };
+    private static final String[] LAST_NAMES = {
+        "Sharma", "Patel", "Gupta", "Iyer", "Reddy", "Nair", "Singh", "Das", "Mehta", "Rao",
+        "Smith", "Garcia", "Johnson", "Brown", "Wang", "Kim", "Silva", "Muller", "Rossi", "Khan"
+    };
+    private static final String[] REASONS = {
+        "Family function", "Medical appointment", "Fever and cold", "Vacation with family",
+        "Personal work", "Wedding in the family", "Moving house", "Child care", "Festival at home",
+        "Recovering from surgery", "Travelling abroad", "Exam preparation"
+    };
+
+    private static final String INSERT_USER =
+        "INSERT INTO users (tenant_id, username, email, password, full_name, department, " +
+        "leave_balance_minutes, enabled, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_LEAVE =
+        "INSERT INTO leaves (tenant_id, user_id, start_date, end_date, duration_minutes, portion, leave_type, reason, status, " +
+        "approved_by, manager_comments, approved_at, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Value("${app.loadtest.seed.users:2000}")
+    private int userCount;
+
+    @Value("${app.loadtest.seed.team-size:8}")
+    private int teamSize;
+
+    @Value("${app.loadtest.seed.history-years:3}")
+    private int historyYears;
+
+    @Value("${app.loadtest.seed.random-seed:42}")
+    private long randomSeed;
+
+    @Value("${app.loadtest.seed.password:loadtest123}")
+    private String password;
+
+    @Value("${app.loadtest.seed.batch-size:1000}")
+    private int batchSize;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Integer existing = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM users WHERE username = 'lt_admin'", Integer.class);
+        if (existing != null && existing > 0) {
+            log.info("Load test data already present, skipping seeding");
+            return;
+        }
+
+        long started = System.currentTimeMillis();
+        Random random = new Random(randomSeed);
+        // One hash for everyone: seeding stays fast and the login storm still pays the full BCrypt cost
+        String passwordHash = passwordEncoder.encode(password);
+        LocalDate today = LocalDate.now();
+
+        List<SeedUser> users = buildOrganisation(random, today);
+        insertUsers(users, passwordHash);
+        long leaves = insertLeaves(users, random, today);
+
+        log.info("Seeded {} users and {} leaves over {} years in {} ms",
+            users.size(), leaves, historyYears, System.currentTimeMillis() - started);
+    }
+
+    // Each department gets a head; everyone else is split into teams of teamSize, led by a manager who reports to the head
+    private List<SeedUser> buildOrganisation(Random random, LocalDate today) {
+        List<SeedUser> users = new ArrayList<>();
+        SeedUser admin = new SeedUser("lt_admin", "Human Resources", "ADMIN", null);
+        admin.joinedOn = today.minusYears(historyYears);
+        users.add(admin);
+
+        int totalWeight = 0;
+        for (int weight : DEPARTMENT_WEIGHTS) {
+            totalWeight += weight;
+        }
+
+        int managers = 0;
+        int employees = 0;
+        for (int d = 0; d < DEPARTMENTS.length; d++) {
+            int departmentSize = Math.max(2, (userCount - 1) * DEPARTMENT_WEIGHTS[d] / totalWeight);
+            SeedUser head = new SeedUser("lt_mgr_" + managers++, DEPARTMENTS[d], "MANAGER", null);
+            users.add(head);
+
+            SeedUser lead = head;
+            for (int i = 1; i < departmentSize; i++) {
+                if (i % teamSize == 0) {
+                    lead = new SeedUser("lt_mgr_" + managers++, DEPARTMENTS[d], "MANAGER", head);
+                    users.add(lead);
+                } else {
+                    users.add(new SeedUser("lt_emp_" + employees++, DEPARTMENTS[d], "EMPLOYEE", lead));
+                }
+            }
+        }
+
+        for (SeedUser user : users) {
+            user.fullName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " " +
+                LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            // A fifth of the staff joined during the history window
+            if (user.joinedOn == null) {
+                user.joinedOn = random.nextInt(5) == 0
+                    ? today.minusDays(random.nextInt(historyYears * 365))
+                    : today.minusYears(historyYears).minusDays(random.nextInt(2000));
+            }
+            // 5 to 25 days in half-day steps
+            user.leaveBalanceMinutes = (10 + random.nextInt(41)) * LeaveUnits.MINUTES_PER_HALF_DAY;
+        }
+        return users;
+    }
+
+    private void insertUsers(List<SeedUser> users, String passwordHash) {
+        for (int from = 0; from < users.size(); from += batchSize) {
+            List<Object[]> rows = new ArrayList<>();
+            for (SeedUser user : users.subList(from, Math.min(from + batchSize, users.size()))) {
+                Timestamp joined = Timestamp.valueOf(user.joinedOn.atTime(9, 0));
+                rows.add(new Object[] {
+                    TenantContext.DEFAULT_TENANT, user.username, user.username + "@loadtest.local", passwordHash,
+                    user.fullName, user.department, user.leaveBalanceMinutes, true, joined, joined
+                });
+            }
+            jdbcTemplate.batchUpdate(INSERT_USER, rows);
+            resolveIds(users.subList(from, Math.min(from + batchSize, users.size())));
+        }
+
+        List<Object[]> roles = new ArrayList<>();
+        List<Object[]> managers = new ArrayList<>();
+        List<Object[]> paths = new ArrayList<>();
+        for (SeedUser user : users) {
+            roles.add(new Object[] {user.id, user.role});
+            if (user.manager != null) {
+                managers.add(new Object[] {user.manager.id, user.id});
+            }
+            int depth = 0;
+            for (SeedUser ancestor = user; ancestor != null; ancestor = ancestor.manager) {
+                paths.add(new Object[] {ancestor.id, user.id, depth++});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO user_roles (user_id, role) VALUES (?, ?)", roles);
+        jdbcTemplate.batchUpdate("UPDATE users SET manager_id = ? WHERE id = ?", managers);
+        jdbcTemplate.batchUpdate("INSERT INTO user_hierarchy (ancestor_id, descendant_id, depth) VALUES (?, ?, ?)", paths);
+    }
+
+    private void resolveIds(List<SeedUser> batch) {
+        Map<String, SeedUser> byUsername = new HashMap<>();
+        for (SeedUser user : batch) {
+            byUsername.put(user.username, user);
+        }
+        String placeholders = String.join(", ", Collections.nCopies(batch.size(), "?"));
+        jdbcTemplate.query("SELECT id, username FROM users WHERE username IN (" + placeholders + ")",
+            rs -> {
+                byUsername.get(rs.getString("username")).id = rs.getLong("id");
+            },
+            byUsername.keySet().toArray());
+    }
+
+    private long insertLeaves(List<SeedUser> users, Random random, LocalDate today) {
+        LocalDate historyStart = today.minusYears(historyYears);
+        List<Object[]> rows = new ArrayList<>(batchSize);
+        long inserted = 0;
+
+        for (SeedUser user : users) {
+            LocalDate cursor = user.joinedOn.isAfter(historyStart) ? user.joinedOn : historyStart;
+            // Walk forward through time so one user's leaves never overlap; roughly eight leaves a year
+            LocalDate horizon = today.plusDays(90);
+            while (true) {
+                cursor = cursor.plusDays(10 + random.nextInt(80));
+                LeaveType type = LEAVE_TYPES[weighted(random, LEAVE_TYPE_WEIGHTS)];
+                LocalDate end = cursor.plusDays(duration(random, type) - 1);
+                if (end.isAfter(horizon)) {
+                    break;
+                }
+                // A fifth of one-day casual and sick leaves are half days
+                DayPortion portion = DayPortion.FULL_DAY;
+                if (cursor.equals(end) && (type == LeaveType.CASUAL_LEAVE || type == LeaveType.SICK_LEAVE)
+                        && random.nextInt(5) == 0) {
+                    portion = random.nextBoolean() ? DayPortion.FIRST_HALF : DayPortion.SECOND_HALF;
+                }
+                rows.add(leaveRow(user, type, portion, cursor, end, random, today));
+                cursor = end;
+
+                if (rows.size() == batchSize) {
+                    jdbcTemplate.batchUpdate(INSERT_LEAVE, rows);
+                    inserted += rows.size();
+                    rows.clear();
+                }
+            }
+        }
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_LEAVE, rows);
+            inserted += rows.size();
+        }
+        return inserted;
+    }
+
+    private Object[] leaveRow(SeedUser user, LeaveType type, DayPortion portion, LocalDate start, LocalDate end, Random random, LocalDate today) {
+        LocalDateTime createdAt = start.minusDays(1 + random.nextInt(30)).atTime(8 + random.nextInt(10), random.nextInt(60));
+        if (createdAt.isAfter(LocalDateTime.now())) {
+            createdAt = LocalDateTime.now().minusMinutes(random.nextInt(600));
+        }
+
+        LeaveStatus status;
+        int roll = random.nextInt(100);
+        if (start.isAfter(today)) {
+            // Upcoming leaves: the open approval backlog the dashboards and approval scenario work on
+            status = roll < 65 ? LeaveStatus.PENDING : roll < 95 ? LeaveStatus.APPROVED : LeaveStatus.REJECTED;
+        } else {
+            status = roll < 82 ? LeaveStatus.APPROVED : roll < 92 ? LeaveStatus.REJECTED : LeaveStatus.CANCELLED;
+        }
+
+        SeedUser approver = user.manager;
+        boolean decided = (status == LeaveStatus.APPROVED || status == LeaveStatus.REJECTED) && approver != null;
+        LocalDateTime approvedAt = decided ? createdAt.plusHours(1 + random.nextInt(72)) : null;
+        String comments = decided && status == LeaveStatus.REJECTED ? "Team capacity is too low for these dates" : null;
+
+        return new Object[] {
+            TenantContext.DEFAULT_TENANT, user.id, Date.valueOf(start), Date.valueOf(end),
+            LeaveUnits.durationMinutes(start, end, portion, 0), portion.name(), type.name(), REASONS[random.nextInt(REASONS.length)],
+            status.name(), decided ? approver.id : null, comments,
+            approvedAt != null ? Timestamp.valueOf(approvedAt) : null,
+            Timestamp.valueOf(createdAt), Timestamp.valueOf(approvedAt != null ? approvedAt : createdAt)
+        };
+    }
+
+    private static int duration(Random random, LeaveType type) {
+        switch (type) {
+            case SICK_LEAVE:
+                return 1 + random.nextInt(3);
+            case CASUAL_LEAVE:
+                return 1 + random.nextInt(2);
+            case ANNUAL_LEAVE:
+                return 2 + random.nextInt(9);
+            case UNPAID_LEAVE:
+                return 1 + random.nextInt(5);
+            case PATERNITY_LEAVE:
+                return 5 + random.nextInt(6);
+            default:
+                return 60 + random.nextInt(31);
+        }
+    }
+
+    private static int weighted(Random random, int[] weights) {
+        int total = 0;
+        for (int weight : weights) {
+            total += weight;
+        }
+        int roll = random.nextInt(total);
+        for (int i = 0; i < weights.length; i++) {
+            roll -= weights[i];
+            if (roll < 0) {
+                return i;
+            }
+        }
+        return weights.length - 1;
+    }
+
+    private static class SeedUser {
+        private final String username;
+        private final String department;
+        private final String role;
+        private final SeedUser manager;
+        private Long id;
+        private String fullName;
+        private LocalDate joinedOn;
+        private long leaveBalanceMinutes;
+
+        private SeedUser(String username, String department, String role, SeedUser manager) {
+            this.username = username;
+            this.department = department;
+            this.role = role;
+            this.manager = manager;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.leavemanagement.config;
+
+import com.leavemanagement.controller.AdminController;
+import com.leavemanagement.controller.EmployeeController;
+import com.leavemanagement.controller.ManagerController;
+import com.leavemanagement.dto.AdminDTO;
+import com.leavemanagement.dto.AuthDTO;
+import com.leavemanagement.dto.LeaveDTO;
+import com.leavemanagement.model.Leave;
+import com.leavemanagement.model.User;
+import com.leavemanagement.service.trace.TracingSessionEventListener;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+/**
+ * Reflection and resource hints for the native image build (mvn -Pnative native:compile).
+ * Controller bodies declared as ResponseEntity<?> are invisible to AOT, so their DTOs are listed here.
+ */
+@Configuration
+@ImportRuntimeHints(NativeHintsConfig.JjwtRuntimeHints.class)
+@RegisterReflectionForBinding({
+    User.class,
+    Leave.class,
+    AuthDTO.LoginRequest.class,
+    AuthDTO.RegisterRequest.class,
+    AuthDTO.AuthResponse.class,
+    AuthDTO.MessageResponse.class,
+    LeaveDTO.LeaveRequest.class,
+    LeaveDTO.LeaveResponse.class,
+    LeaveDTO.LeaveApprovalRequest.class,
+    LeaveDTO.LeaveSearchResponse.class,
+    LeaveDTO.DelegationRequest.class,
+    LeaveDTO.DelegationResponse.class,
+    LeaveDTO.LeaveBalanceResponse.class,
+    LeaveDTO.LeaveTypeBalanceResponse.class,
+    LeaveDTO.NotificationResponse.class,
+    AdminDTO.RolloverResponse.class,
+    AdminDTO.CreateUserRequest.class,
+    AdminDTO.BlackoutRequest.class,
+    AdminDTO.BlackoutResponse.class,
+    AdminDTO.DepartmentPolicyRequest.class,
+    AdminDTO.ImportJobResponse.class,
+    AdminDTO.SlowRequestTrace.class,
+    AdminDTO.PhaseTiming.class,
+    AdminDTO.StatementTiming.class,
+    EmployeeController.MessageResponse.class,
+    EmployeeController.ErrorResponse.class,
+    ManagerController.ErrorResponse.class,
+    AdminController.ErrorResponse.class
+})
+public class NativeHintsConfig {
+
+    static class JjwtRuntimeHints implements RuntimeHintsRegistrar {
+
+        // jjwt-api instantiates its implementation classes by name, and jjwt-impl is runtime-scoped
+        private static final String[] JJWT_REFLECTIVE_TYPES = {
+            "io.jsonwebtoken.impl.DefaultJwtBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtHeaderBuilder",
+            "io.jsonwebtoken.impl.DefaultClaimsBuilder",
+            "io.jsonwebtoken.impl.security.KeysBridge",
+            "io.jsonwebtoken.impl.security.StandardSecureDigestAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardKeyOperations",
+            "io.jsonwebtoken.impl.security.StandardKeyAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardEncryptionAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardHashAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardCurves",
+            "io.jsonwebtoken.impl.io.StandardCompressionAlgorithms",
+            "io.jsonwebtoken.jackson.io.JacksonSerializer",
+            "io.jsonwebtoken.jackson.io.JacksonDeserializer",
+            "io.jsonwebtoken.jackson.io.JacksonSupplierSerializer"
+        };
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            for (String type : JJWT_REFLECTIVE_TYPES) {
+                hints.reflection().registerType(TypeReference.of(type),
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                    MemberCategory.INVOKE_PUBLIC_METHODS,
+                    MemberCategory.DECLARED_FIELDS);
+            }
+            // Hibernate creates the tracing session listener from its class name (see RequestTraceConfig)
+            hints.reflection().registerType(TracingSessionEventListener.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+            // Serializer/Deserializer are discovered through ServiceLoader
+            hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.*");
+        }
+    }
+}
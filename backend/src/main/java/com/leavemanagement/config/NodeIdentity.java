@@ -0,0 +1,24 @@
+package com.leavemanagement.config;
+
+import org.springframework.stereotype.Component;
+import java.net.InetAddress;
+import java.util.UUID;
+
+// Identifies this backend instance in lease rows and cache invalidations; unique per JVM start
+@Component
+public class NodeIdentity {
+
+    private final String id = hostName() + "/" + UUID.randomUUID();
+
+    public String getId() {
+        return id;
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return "unknown-host";
+        }
+    }
+}
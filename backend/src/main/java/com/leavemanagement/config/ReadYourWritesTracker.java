@@ -0,0 +1,54 @@
+package com.leavemanagement.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class ReadYourWritesTracker {
+
+    // Replica lag we tolerate; reads inside this window after a user's own write stay on the primary
+    @Value("${app.datasource.replica.read-your-writes-window-ms:5000}")
+    private long windowMillis;
+
+    private final Map<String, Long> lastWrites = new ConcurrentHashMap<>();
+
+    public void recordWrite(String username) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    lastWrites.put(username, System.currentTimeMillis());
+                }
+            });
+        } else {
+            lastWrites.put(username, System.currentTimeMillis());
+        }
+    }
+
+    public boolean mustReadFromPrimary(String username) {
+        if (username == null) {
+            return false;
+        }
+        Long lastWrite = lastWrites.get(username);
+        if (lastWrite == null) {
+            return false;
+        }
+        if (System.currentTimeMillis() - lastWrite > windowMillis) {
+            lastWrites.remove(username, lastWrite);
+            return false;
+        }
+        return true;
+    }
+
+    // Users who write and never read again would otherwise stay in the map for good
+    @Scheduled(fixedDelayString = "${app.datasource.replica.read-your-writes-window-ms:5000}")
+    public void evictExpired() {
+        long cutoff = System.currentTimeMillis() - windowMillis;
+        lastWrites.values().removeIf(lastWrite -> lastWrite < cutoff);
+    }
+}
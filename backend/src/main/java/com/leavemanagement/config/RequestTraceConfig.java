@@ -0,0 +1,21 @@
+package com.leavemanagement.config;
+
+import com.leavemanagement.service.trace.TracingSessionEventListener;
+import com.leavemanagement.service.trace.TracingStatementInspector;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Hooks the request tracer into Hibernate; statements issued through JdbcTemplate are not traced
+@Configuration
+public class RequestTraceConfig {
+    
+    @Bean
+    public HibernatePropertiesCustomizer requestTraceCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new TracingStatementInspector());
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, TracingSessionEventListener.class.getName());
+        };
+    }
+}
@@ -0,0 +1,52 @@
+package com.leavemanagement.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates the MySQL FULLTEXT indexes used by leave search. Hibernate's schema update cannot
+ * declare them, so they are added once after startup when missing (see database/search_indexes.sql).
+ */
+@Component
+public class SearchIndexInitializer {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchIndexInitializer.class);
+
+    private static final String[][] INDEXES = {
+        {"leaves", "ft_leaves_text", "reason, manager_comments"},
+        {"users", "ft_users_text", "full_name, email, department"}
+    };
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${app.search.create-indexes:true}")
+    private boolean createIndexes;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createMissingIndexes() {
+        if (!createIndexes) {
+            return;
+        }
+        for (String[] index : INDEXES) {
+            try {
+                Integer existing = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM information_schema.statistics " +
+                    "WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ?",
+                    Integer.class, index[0], index[1]);
+                if (existing == null || existing == 0) {
+                    log.info("Creating FULLTEXT index {} on {}({})", index[1], index[0], index[2]);
+                    jdbcTemplate.execute("ALTER TABLE " + index[0] + " ADD FULLTEXT INDEX " + index[1] + " (" + index[2] + ")");
+                }
+            } catch (Exception e) {
+                log.warn("Could not create FULLTEXT index {}: {}", index[1], e.getMessage());
+            }
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.leavemanagement.config;
 
 import com.leavemanagement.security.JwtAuthenticationFilter;
+import com.leavemanagement.service.trace.RequestTrace;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -75,7 +76,28 @@ public class SecurityConfig {
 
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        // Hashes and checks are timed into the request trace
+        return new BCryptPasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                long traceStart = RequestTrace.startTimer();
+                try {
+                    return super.encode(rawPassword);
+                } finally {
+                    RequestTrace.stopTimer(RequestTrace.BCRYPT, traceStart);
+                }
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                long traceStart = RequestTrace.startTimer();
+                try {
+                    return super.matches(rawPassword, encodedPassword);
+                } finally {
+                    RequestTrace.stopTimer(RequestTrace.BCRYPT, traceStart);
+                }
+            }
+        };
     }
 
     @Bean
@@ -0,0 +1,37 @@
+package com.leavemanagement.config;
+
+import com.leavemanagement.security.CustomUserDetailsService;
+import com.leavemanagement.security.JwtUtil;
+import com.leavemanagement.service.AuthService;
+import com.leavemanagement.service.LeaveService;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+@Configuration
+public class StartupConfig {
+
+    // Beans every request touches stay eager under spring.main.lazy-initialization,
+    // so the first login does not pay for their creation
+    @Bean
+    public static LazyInitializationExcludeFilter hotPathBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+            JwtUtil.class,
+            CustomUserDetailsService.class,
+            AuthService.class,
+            LeaveService.class
+        );
+    }
+
+    // AppCDS training run (mvn -Pcds package): load the classes a full startup needs, then exit
+    @Bean
+    @Profile("cds-training")
+    public ApplicationRunner cdsTrainingExit(ApplicationContext context) {
+        return (ApplicationArguments args) -> System.exit(SpringApplication.exit(context));
+    }
+}
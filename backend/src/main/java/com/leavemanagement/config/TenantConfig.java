@@ -0,0 +1,40 @@
+package com.leavemanagement.config;
+
+import com.leavemanagement.security.TenantContext;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Discriminator-based multi-tenancy: entities with a @TenantId column are filtered to the session's
+// tenant, and new rows get it assigned; one schema and one pool serve every tenant
+@Configuration
+public class TenantConfig {
+    
+    @Bean
+    public CurrentTenantIdentifierResolver tenantIdentifierResolver() {
+        return new CurrentTenantIdentifierResolver() {
+            @Override
+            public String resolveCurrentTenantIdentifier() {
+                String tenantId = TenantContext.get();
+                return tenantId != null ? tenantId : TenantContext.ROOT;
+            }
+            
+            @Override
+            public boolean validateExistingCurrentSessions() {
+                return false;
+            }
+            
+            @Override
+            public boolean isRoot(String tenantId) {
+                return TenantContext.ROOT.equals(tenantId);
+            }
+        };
+    }
+    
+    @Bean
+    public HibernatePropertiesCustomizer tenantResolverCustomizer(CurrentTenantIdentifierResolver tenantIdentifierResolver) {
+        return properties -> properties.put(AvailableSettings.MULTI_TENANT_IDENTIFIER_RESOLVER, tenantIdentifierResolver);
+    }
+}
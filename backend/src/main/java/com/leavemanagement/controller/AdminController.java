@@ -0,0 +1,220 @@
+package com.leavemanagement.controller;
+
+import com.leavemanagement.dto.AdminDTO;
+import com.leavemanagement.dto.AuthDTO;
+import com.leavemanagement.security.OperatorTenant;
+import com.leavemanagement.security.TenantContext;
+import com.leavemanagement.service.AuthService;
+import com.leavemanagement.service.LeaveArchivalService;
+import com.leavemanagement.service.LeavePolicyService;
+import com.leavemanagement.service.LeaveSlaScanner;
+import com.leavemanagement.service.LeaveYearRolloverService;
+import com.leavemanagement.service.OrgHierarchyService;
+import com.leavemanagement.service.imports.BulkImportService;
+import com.leavemanagement.service.trace.SlowRequestLog;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+@RestController
+@RequestMapping("/api/admin")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class AdminController {
+    
+    @Autowired
+    private LeaveYearRolloverService leaveYearRolloverService;
+    
+    @Autowired
+    private OrgHierarchyService orgHierarchyService;
+    
+    @Autowired
+    private LeaveArchivalService leaveArchivalService;
+    
+    @Autowired
+    private LeavePolicyService leavePolicyService;
+    
+    @Autowired
+    private BulkImportService bulkImportService;
+    
+    @Autowired
+    private LeaveSlaScanner leaveSlaScanner;
+    
+    @Autowired
+    private SlowRequestLog slowRequestLog;
+    
+    @Autowired
+    private AuthService authService;
+    
+    @Autowired
+    private OperatorTenant operatorTenant;
+    
+    // Runs (or resumes) the yearly balance rollover outside its schedule; it covers every tenant,
+    // so like archival and the SLA scan only the operator tenant's admins may trigger it
+    @PostMapping("/leave-year/{year}/rollover")
+    public ResponseEntity<?> rolloverLeaveYear(@PathVariable Integer year) {
+        try {
+            operatorTenant.require();
+            AdminDTO.RolloverResponse response = leaveYearRolloverService.rollover(year);
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        }
+    }
+    
+    @PostMapping("/leaves/archive")
+    public ResponseEntity<?> archiveClosedLeaves() {
+        try {
+            operatorTenant.require();
+            long archived = leaveArchivalService.archiveClosedLeaves();
+            if (archived < 0) {
+                return ResponseEntity.badRequest().body(new ErrorResponse("Archival is already running"));
+            }
+            return ResponseEntity.ok(new AuthDTO.MessageResponse("Archived " + archived + " closed leaves"));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        }
+    }
+    
+    // Runs the pending-leave reminder and escalation scan outside its schedule
+    @PostMapping("/leaves/sla-scan")
+    public ResponseEntity<?> scanPendingLeaveSla() {
+        try {
+            operatorTenant.require();
+            long raised = leaveSlaScanner.scan();
+            if (raised < 0) {
+                return ResponseEntity.badRequest().body(new ErrorResponse("An SLA scan is already running"));
+            }
+            return ResponseEntity.ok(new AuthDTO.MessageResponse("Raised " + raised + " reminders or escalations"));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        }
+    }
+    
+    @PostMapping("/users")
+    public ResponseEntity<?> createUser(@Valid @RequestBody AdminDTO.CreateUserRequest request) {
+        try {
+            return ResponseEntity.ok(authService.createUserAsAdmin(request));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        }
+    }
+    
+    // Moves the user, with everyone reporting to them, under the given manager
+    @PutMapping("/users/{id}/manager")
+    public ResponseEntity<?> assignManager(@PathVariable Long id,
+                                           @RequestBody AdminDTO.ManagerAssignmentRequest request) {
+        try {
+            orgHierarchyService.assignManager(id, request.getManagerId());
+            return ResponseEntity.ok(new AuthDTO.MessageResponse("Manager updated successfully"));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        }
+    }
+    
+    @GetMapping("/leave-policy/blackouts")
+    public ResponseEntity<?> getBlackouts() {
+        try {
+            return ResponseEntity.ok(leavePolicyService.getUpcomingBlackouts());
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        }
+    }
+    
+    @PostMapping("/leave-policy/blackouts")
+    public ResponseEntity<?> addBlackout(@Valid @RequestBody AdminDTO.BlackoutRequest request) {
+        try {
+            AdminDTO.BlackoutResponse response = leavePolicyService.addBlackout(request);
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        }
+    }
+    
+    @DeleteMapping("/leave-policy/blackouts/{id}")
+    public ResponseEntity<?> deleteBlackout(@PathVariable Long id) {
+        try {
+            leavePolicyService.deleteBlackout(id);
+            return ResponseEntity.ok(new AuthDTO.MessageResponse("Blackout period deleted successfully"));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        }
+    }
+    
+    @PutMapping("/leave-policy/departments/{department}")
+    public ResponseEntity<?> setDepartmentPolicy(@PathVariable String department,
+                                                 @Valid @RequestBody AdminDTO.DepartmentPolicyRequest request) {
+        try {
+            leavePolicyService.setMinCoverage(department, request.getMinCoveragePercent());
+            return ResponseEntity.ok(new AuthDTO.MessageResponse("Department policy updated successfully"));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        }
+    }
+    
+    // CSV imports run in the background; poll /import/{jobId} for progress
+    @PostMapping("/import/users")
+    public ResponseEntity<?> importUsers(@RequestParam("file") MultipartFile file) {
+        try {
+            return ResponseEntity.accepted().body(bulkImportService.importUsers(file));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        }
+    }
+    
+    @PostMapping("/import/leaves")
+    public ResponseEntity<?> importLeaves(@RequestParam("file") MultipartFile file) {
+        try {
+            return ResponseEntity.accepted().body(bulkImportService.importLeaves(file));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        }
+    }
+    
+    @GetMapping("/import/{jobId}")
+    public ResponseEntity<?> getImportJob(@PathVariable String jobId) {
+        try {
+            return ResponseEntity.ok(bulkImportService.getJob(jobId));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        }
+    }
+    
+    @GetMapping("/import/{jobId}/errors")
+    public ResponseEntity<?> getImportErrors(@PathVariable String jobId) {
+        try {
+            return ResponseEntity.ok()
+                .contentType(new MediaType("text", "csv"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"import-" + jobId + "-errors.csv\"")
+                .body(bulkImportService.getErrorsCsv(jobId));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        }
+    }
+    
+    // Recent requests over app.trace.slow-request-ms on this node, newest first; other tenants'
+    // requests are only shown to the operator tenant
+    @GetMapping("/traces/slow")
+    public ResponseEntity<?> getSlowRequests(@RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(slowRequestLog.getRecent(limit, operatorTenant.isCurrent() ? null : TenantContext.get()));
+    }
+    
+    public static class ErrorResponse {
+        private String error;
+        
+        public ErrorResponse(String error) {
+            this.error = error;
+        }
+        
+        public String getError() {
+            return error;
+        }
+        
+        public void setError(String error) {
+            this.error = error;
+        }
+    }
+}
@@ -5,6 +5,7 @@ import com.leavemanagement.service.AuthService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -36,4 +37,12 @@ public class AuthController {
                 .body(new AuthDTO.MessageResponse("Error: " + e.getMessage()));
         }
     }
+    
+    // Unreadable bodies, including a register request carrying a tenantId, get a 400 instead of the 403 of /error
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<?> handleUnreadableBody(HttpMessageNotReadableException e) {
+        Throwable cause = e.getMostSpecificCause();
+        return ResponseEntity.badRequest()
+            .body(new AuthDTO.MessageResponse("Error: " + (cause instanceof IllegalArgumentException ? cause.getMessage() : "Malformed request body")));
+    }
 }
@@ -36,6 +36,13 @@ public class EmployeeController {
         return ResponseEntity.ok(leaves);
     }
     
+    // Compact rows for the leave table; use /leaves for full details
+    @GetMapping("/leaves/summary")
+    public ResponseEntity<List<LeaveDTO.LeaveSummary>> getMyLeaveSummaries(Authentication authentication) {
+        String username = authentication.getName();
+        return ResponseEntity.ok(leaveService.getMyLeaveSummaries(username));
+    }
+    
     @GetMapping("/leaves/balance")
     public ResponseEntity<LeaveDTO.LeaveBalanceResponse> getLeaveBalance(Authentication authentication) {
         String username = authentication.getName();
@@ -1,12 +1,21 @@
 package com.leavemanagement.controller;
 
+import com.leavemanagement.dto.AuthDTO;
 import com.leavemanagement.dto.LeaveDTO;
+import com.leavemanagement.model.Leave.LeaveStatus;
+import com.leavemanagement.model.Leave.LeaveType;
+import com.leavemanagement.service.ApprovalDelegationService;
+import com.leavemanagement.service.ApproverNotificationService;
+import com.leavemanagement.service.LeaveAuditService;
+import com.leavemanagement.service.LeaveSearchService;
 import com.leavemanagement.service.LeaveService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -17,18 +26,76 @@ public class ManagerController {
     @Autowired
     private LeaveService leaveService;
     
+    @Autowired
+    private LeaveSearchService leaveSearchService;
+    
+    @Autowired
+    private LeaveAuditService leaveAuditService;
+    
+    @Autowired
+    private ApprovalDelegationService approvalDelegationService;
+    
+    @Autowired
+    private ApproverNotificationService approverNotificationService;
+    
     @GetMapping("/leaves")
-    public ResponseEntity<List<LeaveDTO.LeaveResponse>> getAllLeaves() {
-        List<LeaveDTO.LeaveResponse> leaves = leaveService.getAllLeaves();
+    public ResponseEntity<List<LeaveDTO.LeaveResponse>> getAllLeaves(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        List<LeaveDTO.LeaveResponse> leaves = leaveService.getAllLeaves(from, to);
         return ResponseEntity.ok(leaves);
     }
     
+    @GetMapping("/leaves/summary")
+    public ResponseEntity<List<LeaveDTO.LeaveSummary>> getAllLeaveSummaries(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(leaveService.getAllLeaveSummaries(from, to));
+    }
+    
+    @GetMapping("/leaves/pending/summary")
+    public ResponseEntity<List<LeaveDTO.LeaveSummary>> getPendingLeaveSummaries(Authentication authentication) {
+        return ResponseEntity.ok(leaveService.getPendingLeaveSummaries(authentication.getName()));
+    }
+    
     @GetMapping("/leaves/pending")
-    public ResponseEntity<List<LeaveDTO.LeaveResponse>> getPendingLeaves() {
-        List<LeaveDTO.LeaveResponse> leaves = leaveService.getPendingLeaves();
+    public ResponseEntity<List<LeaveDTO.LeaveResponse>> getPendingLeaves(Authentication authentication) {
+        List<LeaveDTO.LeaveResponse> leaves = leaveService.getPendingLeaves(authentication.getName());
         return ResponseEntity.ok(leaves);
     }
     
+    @GetMapping("/leaves/search")
+    public ResponseEntity<?> searchLeaves(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) LeaveStatus status,
+            @RequestParam(required = false) LeaveType leaveType,
+            @RequestParam(required = false) String department,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            Authentication authentication) {
+        try {
+            LeaveDTO.LeaveSearchResponse response = leaveSearchService.search(authentication.getName(), q, status, leaveType,
+                department, page, size);
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        }
+    }
+    
+    @GetMapping("/leaves/{id}/history")
+    public ResponseEntity<List<LeaveDTO.LeaveAuditResponse>> getLeaveHistory(@PathVariable Long id) {
+        return ResponseEntity.ok(leaveAuditService.getLeaveHistory(id));
+    }
+    
+    // Newest first; pass the smallest id of the previous page as beforeId to continue
+    @GetMapping("/users/{userId}/leave-history")
+    public ResponseEntity<List<LeaveDTO.LeaveAuditResponse>> getUserLeaveHistory(
+            @PathVariable Long userId,
+            @RequestParam(required = false) Long beforeId,
+            @RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok(leaveAuditService.getUserHistory(userId, beforeId, size));
+    }
+    
     @PutMapping("/leaves/{id}/approve")
     public ResponseEntity<?> approveOrRejectLeave(@PathVariable Long id,
                                                   @Valid @RequestBody LeaveDTO.LeaveApprovalRequest request,
@@ -42,6 +109,49 @@ public class ManagerController {
         }
     }
     
+    @GetMapping("/delegations")
+    public ResponseEntity<List<LeaveDTO.DelegationResponse>> getMyDelegations(Authentication authentication) {
+        return ResponseEntity.ok(approvalDelegationService.getMyDelegations(authentication.getName()));
+    }
+    
+    // Hands this manager's approvals to another manager for the given dates
+    @PostMapping("/delegations")
+    public ResponseEntity<?> delegateApprovals(@Valid @RequestBody LeaveDTO.DelegationRequest request,
+                                               Authentication authentication) {
+        try {
+            LeaveDTO.DelegationResponse response = approvalDelegationService.delegate(authentication.getName(), request);
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        }
+    }
+    
+    @DeleteMapping("/delegations/{id}")
+    public ResponseEntity<?> cancelDelegation(@PathVariable Long id, Authentication authentication) {
+        try {
+            approvalDelegationService.cancel(authentication.getName(), id);
+            return ResponseEntity.ok(new AuthDTO.MessageResponse("Delegation cancelled successfully"));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        }
+    }
+    
+    // Unread SLA reminders and escalations, newest first
+    @GetMapping("/notifications")
+    public ResponseEntity<List<LeaveDTO.NotificationResponse>> getNotifications(Authentication authentication) {
+        return ResponseEntity.ok(approverNotificationService.getUnread(authentication.getName()));
+    }
+    
+    @PutMapping("/notifications/{id}/read")
+    public ResponseEntity<?> markNotificationRead(@PathVariable Long id, Authentication authentication) {
+        try {
+            approverNotificationService.markRead(authentication.getName(), id);
+            return ResponseEntity.ok(new AuthDTO.MessageResponse("Notification marked as read"));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        }
+    }
+    
     public static class ErrorResponse {
         private String error;
         
@@ -0,0 +1,161 @@
+package com.leavemanagement.dto;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+public class AdminDTO {
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RolloverResponse {
+        private Integer leaveYear;
+        private Integer partitions;
+        private Long usersProcessed;
+        private Boolean completed;
+        private Long durationMillis;
+    }
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CreateUserRequest {
+        @NotBlank(message = "Username is required")
+        @Size(min = 3, max = 50)
+        private String username;
+        
+        @NotBlank(message = "Email is required")
+        @Email(message = "Invalid email format")
+        private String email;
+        
+        @NotBlank(message = "Password is required")
+        @Size(min = 6, message = "Password must be at least 6 characters")
+        private String password;
+        
+        @NotBlank(message = "Full name is required")
+        private String fullName;
+        
+        private String department;
+        
+        private Set<String> roles;
+        
+        // Only admins of app.tenant.operator-tenant may name another tenant; the admin's own tenant when omitted
+        @Pattern(regexp = "[a-z0-9-]{1,64}", message = "Tenant id must be 1-64 lowercase letters, digits or dashes")
+        private String tenantId;
+    }
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ManagerAssignmentRequest {
+        // null removes the user from under their current manager
+        private Long managerId;
+    }
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BlackoutRequest {
+        // null applies the blackout to every department
+        private String department;
+        
+        @NotNull(message = "Start date is required")
+        private LocalDate startDate;
+        
+        @NotNull(message = "End date is required")
+        private LocalDate endDate;
+        
+        private String reason;
+    }
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BlackoutResponse {
+        private Long id;
+        private String department;
+        private LocalDate startDate;
+        private LocalDate endDate;
+        private String reason;
+    }
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DepartmentPolicyRequest {
+        // null removes the coverage requirement
+        @Min(value = 0, message = "Coverage must be between 0 and 100")
+        @Max(value = 100, message = "Coverage must be between 0 and 100")
+        private Integer minCoveragePercent;
+    }
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ImportJobResponse {
+        private String id;
+        private String kind;
+        private String tenantId;
+        private String fileName;
+        private String status;
+        private Long rowsRead;
+        private Long rowsImported;
+        private Long rowsFailed;
+        // More rows failed than the error list keeps
+        private Boolean errorsTruncated;
+        private String message;
+        private LocalDateTime submittedAt;
+        private LocalDateTime finishedAt;
+    }
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SlowRequestTrace {
+        private LocalDateTime startedAt;
+        private String method;
+        // Mapped pattern, e.g. /api/manager/leaves/{id}/approve; null when no handler matched
+        private String endpoint;
+        private String path;
+        private Integer status;
+        private String tenantId;
+        private String username;
+        private Double durationMillis;
+        private Integer sqlCount;
+        private Double dbMillis;
+        private List<PhaseTiming> phases;
+        // Slowest statements by total time, each with its number of executions
+        private List<StatementTiming> statements;
+    }
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PhaseTiming {
+        private String name;
+        private Long calls;
+        private Double millis;
+    }
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class StatementTiming {
+        private String sql;
+        private Long executions;
+        private Double totalMillis;
+        private Double maxMillis;
+    }
+}
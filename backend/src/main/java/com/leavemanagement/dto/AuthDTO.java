@@ -1,5 +1,6 @@
 package com.leavemanagement.dto;
 
+import com.fasterxml.jackson.annotation.JsonAnySetter;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
@@ -43,6 +44,12 @@ public class AuthDTO {
         private String department;
         
         private Set<String> roles;
+        
+        // The server assigns the tenant, so a client-sent tenantId (or any unknown field) fails the request
+        @JsonAnySetter
+        public void rejectUnknownField(String name, Object value) {
+            throw new IllegalArgumentException("Unknown field: " + name);
+        }
     }
     
     @Data
@@ -57,9 +64,10 @@ public class AuthDTO {
         private String fullName;
         private Set<String> roles;
         private Double leaveBalance;
+        private String tenantId;
         
         public AuthResponse(String token, Long id, String username, String email, 
-                           String fullName, Set<String> roles, Double leaveBalance) {
+                           String fullName, Set<String> roles, Double leaveBalance, String tenantId) {
             this.token = token;
             this.id = id;
             this.username = username;
@@ -67,6 +75,7 @@ public class AuthDTO {
             this.fullName = fullName;
             this.roles = roles;
             this.leaveBalance = leaveBalance;
+            this.tenantId = tenantId;
         }
     }
     
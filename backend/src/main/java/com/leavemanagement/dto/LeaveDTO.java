@@ -1,13 +1,18 @@
 package com.leavemanagement.dto;
 
+import com.leavemanagement.model.Leave.DayPortion;
 import com.leavemanagement.model.Leave.LeaveStatus;
 import com.leavemanagement.model.Leave.LeaveType;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 
 public class LeaveDTO {
     
@@ -24,6 +29,12 @@ public class LeaveDTO {
         @NotNull(message = "Leave type is required")
         private LeaveType leaveType;
         
+        // Defaults to FULL_DAY; half days and hours are booked on a single date
+        private DayPortion portion;
+        
+        // Only for HOURS
+        private Integer hours;
+        
         private String reason;
     }
     
@@ -38,17 +49,37 @@ public class LeaveDTO {
         private String department;
         private LocalDate startDate;
         private LocalDate endDate;
-        private Integer numberOfDays;
+        // Days charged, for display; durationMinutes is the exact value
+        private Double numberOfDays;
+        private Long durationMinutes;
+        private DayPortion portion;
         private LeaveType leaveType;
         private String reason;
         private LeaveStatus status;
         private String approvedByName;
         private String managerComments;
         private LocalDateTime approvedAt;
+        // Levels above the direct manager a stale pending leave has been escalated
+        private Integer escalationLevel;
         private LocalDateTime createdAt;
         private LocalDateTime updatedAt;
     }
     
+    // Compact row for list views: only the columns the leave table shows
+    @Getter
+    @AllArgsConstructor
+    @JsonSerialize(using = LeaveSummarySerializer.class)
+    public static class LeaveSummary {
+        private final long id;
+        private final String userName;
+        private final String department;
+        private final LocalDate startDate;
+        private final LocalDate endDate;
+        private final long durationMinutes;
+        private final LeaveType leaveType;
+        private final LeaveStatus status;
+    }
+    
     @Data
     @NoArgsConstructor
     @AllArgsConstructor
@@ -59,6 +90,36 @@ public class LeaveDTO {
         private String managerComments;
     }
     
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DelegationRequest {
+        @NotNull(message = "Delegate is required")
+        private Long delegateId;
+        
+        @NotNull(message = "Start date is required")
+        private LocalDate startDate;
+        
+        @NotNull(message = "End date is required")
+        private LocalDate endDate;
+        
+        private String reason;
+    }
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DelegationResponse {
+        private Long id;
+        private Long delegatorId;
+        private String delegatorName;
+        private Long delegateId;
+        private String delegateName;
+        private LocalDate startDate;
+        private LocalDate endDate;
+        private String reason;
+    }
+    
     @Data
     @NoArgsConstructor
     @AllArgsConstructor
@@ -67,5 +128,61 @@ public class LeaveDTO {
         private Double usedLeave;
         private Double remainingBalance;
         private Long pendingRequests;
+        private Long totalBalanceMinutes;
+        private Long usedLeaveMinutes;
+        private Long remainingBalanceMinutes;
+        // Leave types with their own entitlement; not included in the figures above
+        private List<LeaveTypeBalanceResponse> typeBalances;
+    }
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class LeaveTypeBalanceResponse {
+        private LeaveType leaveType;
+        private Double totalBalance;
+        private Double usedLeave;
+        private Double remainingBalance;
+        private Long totalBalanceMinutes;
+        private Long usedLeaveMinutes;
+        private Long remainingBalanceMinutes;
+    }
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class LeaveSearchResponse {
+        private List<LeaveResponse> hits;
+        private Long totalHits;
+        private Integer page;
+        private Integer size;
+        // facet name (status, leaveType, department) -> value -> count
+        private Map<String, Map<String, Long>> facets;
+    }
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class LeaveAuditResponse {
+        private Long id;
+        private Long leaveId;
+        private Long userId;
+        private String actor;
+        private String action;
+        private LeaveStatus oldStatus;
+        private LeaveStatus newStatus;
+        private Long balanceDeltaMinutes;
+        private LocalDateTime occurredAt;
+    }
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class NotificationResponse {
+        private Long id;
+        private Long leaveId;
+        private String type;
+        private String message;
+        private LocalDateTime createdAt;
     }
 }
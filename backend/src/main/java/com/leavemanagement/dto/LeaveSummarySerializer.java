@@ -0,0 +1,30 @@
+package com.leavemanagement.dto;
+
+import com.leavemanagement.model.LeaveUnits;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import java.io.IOException;
+
+// Writes LeaveSummary field by field: no bean introspection, and dates as plain ISO strings
+public class LeaveSummarySerializer extends StdSerializer<LeaveDTO.LeaveSummary> {
+    
+    public LeaveSummarySerializer() {
+        super(LeaveDTO.LeaveSummary.class);
+    }
+    
+    @Override
+    public void serialize(LeaveDTO.LeaveSummary summary, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject();
+        gen.writeNumberField("id", summary.getId());
+        gen.writeStringField("userName", summary.getUserName());
+        gen.writeStringField("department", summary.getDepartment());
+        gen.writeStringField("startDate", summary.getStartDate().toString());
+        gen.writeStringField("endDate", summary.getEndDate().toString());
+        gen.writeNumberField("numberOfDays", LeaveUnits.toDays(summary.getDurationMinutes()));
+        gen.writeNumberField("durationMinutes", summary.getDurationMinutes());
+        gen.writeStringField("leaveType", summary.getLeaveType().name());
+        gen.writeStringField("status", summary.getStatus().name());
+        gen.writeEndObject();
+    }
+}
@@ -0,0 +1,56 @@
+package com.leavemanagement.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.TenantId;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// A manager handing their approvals to another manager for a date range, both ends inclusive
+@Entity
+@Table(name = "approval_delegations", indexes = {
+    @Index(name = "idx_delegations_end_date", columnList = "end_date"),
+    @Index(name = "idx_delegations_delegator", columnList = "delegator_id, end_date"),
+    @Index(name = "idx_delegations_delegate", columnList = "delegate_id, end_date")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApprovalDelegation {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @TenantId
+    @Column(name = "tenant_id", nullable = false, length = 64,
+            columnDefinition = "varchar(64) not null default 'default'")
+    private String tenantId;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "delegator_id", nullable = false)
+    private User delegator;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "delegate_id", nullable = false)
+    private User delegate;
+    
+    @Column(name = "start_date", nullable = false)
+    private LocalDate startDate;
+    
+    @Column(name = "end_date", nullable = false)
+    private LocalDate endDate;
+    
+    @Column(length = 255)
+    private String reason;
+    
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+    
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,47 @@
+package com.leavemanagement.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.TenantId;
+import java.time.LocalDateTime;
+
+// In-app inbox of SLA reminders and escalations, written by ApproverNotificationService
+@Entity
+@Table(name = "approver_notifications", indexes = {
+    @Index(name = "idx_approver_notifications_recipient", columnList = "recipient_id, read_at, id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApproverNotification {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @TenantId
+    @Column(name = "tenant_id", nullable = false, length = 64,
+            columnDefinition = "varchar(64) not null default 'default'")
+    private String tenantId;
+    
+    @Column(name = "recipient_id", nullable = false)
+    private Long recipientId;
+    
+    @Column(name = "leave_id", nullable = false)
+    private Long leaveId;
+    
+    // SLA_REMINDER or SLA_ESCALATION
+    @Column(nullable = false, length = 20)
+    private String type;
+    
+    @Column(nullable = false, length = 500)
+    private String message;
+    
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+    
+    @Column(name = "read_at")
+    private LocalDateTime readAt;
+}
@@ -0,0 +1,118 @@
+package com.leavemanagement.model;
+
+import com.leavemanagement.model.Leave.DayPortion;
+import com.leavemanagement.model.Leave.LeaveStatus;
+import com.leavemanagement.model.Leave.LeaveType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.TenantId;
+import org.hibernate.annotations.Immutable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// Closed leaves moved out of the hot leaves table by LeaveArchivalService; keeps the original id
+@Entity
+@Immutable
+@Table(name = "leaves_archive", indexes = {
+    @Index(name = "idx_leaves_archive_user", columnList = "user_id, created_at"),
+    @Index(name = "idx_leaves_archive_tenant_dates", columnList = "tenant_id, end_date, start_date"),
+    @Index(name = "idx_leaves_archive_dates", columnList = "end_date, start_date")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchivedLeave {
+    
+    @Id
+    private Long id;
+    
+    @TenantId
+    @Column(name = "tenant_id", nullable = false, length = 64,
+            columnDefinition = "varchar(64) not null default 'default'")
+    private String tenantId;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+    
+    @Column(nullable = false)
+    private LocalDate startDate;
+    
+    @Column(nullable = false)
+    private LocalDate endDate;
+    
+    // Working time charged against the balance, in minutes (see LeaveUnits)
+    @Column(name = "duration_minutes", nullable = false, columnDefinition = "bigint not null default 0")
+    private long durationMinutes;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16, columnDefinition = "varchar(16) not null default 'FULL_DAY'")
+    private DayPortion portion;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private LeaveType leaveType;
+    
+    @Column(length = 1000)
+    private String reason;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private LeaveStatus status;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "approved_by")
+    private User approvedBy;
+    
+    @Column(length = 500)
+    private String managerComments;
+    
+    @Column(name = "approved_at")
+    private LocalDateTime approvedAt;
+    
+    @Column(name = "escalation_level", nullable = false, columnDefinition = "int not null default 0")
+    private int escalationLevel;
+    
+    @Column(name = "escalated_to")
+    private Long escalatedTo;
+    
+    @Column(name = "sla_notified_at")
+    private LocalDateTime slaNotifiedAt;
+    
+    // Version the leave had when archived; archived rows are never updated
+    @Column(nullable = false, columnDefinition = "bigint not null default 0")
+    private long version;
+    
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+    
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
+    // Read paths work on Leave; the copy is detached and never saved
+    public Leave toLeave() {
+        Leave leave = new Leave();
+        leave.setId(id);
+        leave.setTenantId(tenantId);
+        leave.setUser(user);
+        leave.setStartDate(startDate);
+        leave.setEndDate(endDate);
+        leave.setDurationMinutes(durationMinutes);
+        leave.setPortion(portion);
+        leave.setLeaveType(leaveType);
+        leave.setReason(reason);
+        leave.setStatus(status);
+        leave.setApprovedBy(approvedBy);
+        leave.setManagerComments(managerComments);
+        leave.setApprovedAt(approvedAt);
+        leave.setEscalationLevel(escalationLevel);
+        leave.setEscalatedTo(escalatedTo);
+        leave.setSlaNotifiedAt(slaNotifiedAt);
+        leave.setVersion(version);
+        leave.setCreatedAt(createdAt);
+        leave.setUpdatedAt(updatedAt);
+        return leave;
+    }
+}
@@ -0,0 +1,37 @@
+package com.leavemanagement.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+// One published cache invalidation, read by the other nodes (see DatabasePollingInvalidationTransport)
+@Entity
+@Table(name = "cache_invalidations", indexes = {
+    @Index(name = "idx_cache_invalidations_created", columnList = "created_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheInvalidation {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "cache_name", nullable = false, length = 64)
+    private String cacheName;
+    
+    @Column(name = "cache_key", nullable = false)
+    private String cacheKey;
+    
+    @Column(nullable = false)
+    private long version;
+    
+    @Column(nullable = false, length = 128)
+    private String origin;
+    
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
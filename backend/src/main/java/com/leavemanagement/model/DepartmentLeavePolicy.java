@@ -0,0 +1,42 @@
+package com.leavemanagement.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.TenantId;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "department_leave_policies",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"tenant_id", "department"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DepartmentLeavePolicy {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @TenantId
+    @Column(name = "tenant_id", nullable = false, length = 64,
+            columnDefinition = "varchar(64) not null default 'default'")
+    private String tenantId;
+    
+    @Column(nullable = false)
+    private String department;
+    
+    // Share of the department that must stay at work on every day; null disables the coverage check
+    @Column(name = "min_coverage_percent")
+    private Integer minCoveragePercent;
+    
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        updatedAt = LocalDateTime.now();
+    }
+}
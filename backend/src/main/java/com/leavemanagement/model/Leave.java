@@ -4,11 +4,16 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.TenantId;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "leaves")
+@Table(name = "leaves", indexes = {
+    @Index(name = "idx_leaves_status_created", columnList = "status, created_at"),
+    @Index(name = "idx_leaves_tenant_status_created", columnList = "tenant_id, status, created_at"),
+    @Index(name = "idx_leaves_user_status", columnList = "user_id, status")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -18,6 +23,11 @@ public class Leave {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     
+    @TenantId
+    @Column(name = "tenant_id", nullable = false, length = 64,
+            columnDefinition = "varchar(64) not null default 'default'")
+    private String tenantId;
+    
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
@@ -28,8 +38,13 @@ public class Leave {
     @Column(nullable = false)
     private LocalDate endDate;
     
-    @Column(nullable = false)
-    private Integer numberOfDays;
+    // Working time charged against the balance, in minutes (see LeaveUnits)
+    @Column(name = "duration_minutes", nullable = false, columnDefinition = "bigint not null default 0")
+    private long durationMinutes;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16, columnDefinition = "varchar(16) not null default 'FULL_DAY'")
+    private DayPortion portion = DayPortion.FULL_DAY;
     
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
@@ -52,6 +67,23 @@ public class Leave {
     @Column(name = "approved_at")
     private LocalDateTime approvedAt;
     
+    // Levels above the direct manager a stale pending leave has been escalated (see LeaveSlaScanner)
+    @Column(name = "escalation_level", nullable = false, columnDefinition = "int not null default 0")
+    private int escalationLevel;
+    
+    // Approver the leave was last escalated to; they may decide it even if the reporting line changes since
+    @Column(name = "escalated_to")
+    private Long escalatedTo;
+    
+    // Last reminder or escalation sent for this leave
+    @Column(name = "sla_notified_at")
+    private LocalDateTime slaNotifiedAt;
+    
+    // Two approvers deciding the same leave at once: the second commit fails instead of overwriting the first
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint not null default 0")
+    private long version;
+    
     @Column(name = "created_at")
     private LocalDateTime createdAt;
     
@@ -69,6 +101,13 @@ public class Leave {
         updatedAt = LocalDateTime.now();
     }
     
+    public enum DayPortion {
+        FULL_DAY,
+        FIRST_HALF,
+        SECOND_HALF,
+        HOURS
+    }
+    
     public enum LeaveType {
         SICK_LEAVE,
         CASUAL_LEAVE,
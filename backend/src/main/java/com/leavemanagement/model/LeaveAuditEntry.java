@@ -0,0 +1,59 @@
+package com.leavemanagement.model;
+
+import com.leavemanagement.model.Leave.LeaveStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.TenantId;
+import org.hibernate.annotations.Immutable;
+import java.time.LocalDateTime;
+
+// Append-only: rows are inserted by LeaveAuditService and never updated or deleted
+@Entity
+@Immutable
+@Table(name = "leave_audit_log", indexes = {
+    @Index(name = "idx_leave_audit_leave", columnList = "leave_id, id"),
+    @Index(name = "idx_leave_audit_user", columnList = "user_id, id")
+})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeaveAuditEntry {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @TenantId
+    @Column(name = "tenant_id", nullable = false, length = 64,
+            columnDefinition = "varchar(64) not null default 'default'")
+    private String tenantId;
+    
+    @Column(name = "leave_id", nullable = false)
+    private Long leaveId;
+    
+    // Owner of the leave
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+    
+    @Column(nullable = false)
+    private String actor;
+    
+    @Column(nullable = false, length = 20)
+    private String action;
+    
+    @Enumerated(EnumType.STRING)
+    private LeaveStatus oldStatus;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private LeaveStatus newStatus;
+    
+    // Minutes added to (positive) or taken from the balance
+    @Column(name = "balance_delta_minutes", nullable = false, columnDefinition = "bigint not null default 0")
+    private long balanceDeltaMinutes;
+    
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,48 @@
+package com.leavemanagement.model;
+
+import com.leavemanagement.model.Leave.LeaveType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.TenantId;
+
+// Balance of a leave type with its own entitlement (app.leave.type-entitlements). A user without a
+// row for such a type has not used it this leave year and holds the full entitlement.
+@Entity
+@Table(name = "leave_type_balances", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_leave_type_balances_user_type", columnNames = {"user_id", "leave_type"})
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeaveTypeBalance {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @TenantId
+    @Column(name = "tenant_id", nullable = false, length = 64,
+            columnDefinition = "varchar(64) not null default 'default'")
+    private String tenantId;
+    
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "leave_type", nullable = false, length = 32)
+    private LeaveType leaveType;
+    
+    // Remaining leave of this type in minutes (see LeaveUnits)
+    @Column(name = "balance_minutes", nullable = false)
+    private long balanceMinutes;
+    
+    // Part of the balance brought over from the previous leave year
+    @Column(name = "carried_over_minutes", nullable = false, columnDefinition = "bigint not null default 0")
+    private long carriedOverMinutes;
+    
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint not null default 0")
+    private long version;
+}
@@ -0,0 +1,54 @@
+package com.leavemanagement.model;
+
+import com.leavemanagement.model.Leave.DayPortion;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Leave durations and balances are whole minutes of working time held in a long, so deductions and
+ * restorations are exact however often they repeat. Days only appear at the edges: configuration
+ * is written in days and responses show days next to the minute values.
+ */
+public final class LeaveUnits {
+    
+    public static final long MINUTES_PER_HOUR = 60;
+    
+    public static final long MINUTES_PER_DAY = 8 * MINUTES_PER_HOUR;
+    
+    public static final long MINUTES_PER_HALF_DAY = MINUTES_PER_DAY / 2;
+    
+    // Longest hourly leave; a full working day is booked as a day
+    public static final int MAX_HOURS = (int) (MINUTES_PER_DAY / MINUTES_PER_HOUR) - 1;
+    
+    private LeaveUnits() {
+    }
+    
+    public static long ofDays(long days) {
+        return days * MINUTES_PER_DAY;
+    }
+    
+    // Parses a day count from configuration ("20", "2.5") exactly, rounding to the minute
+    public static long parseDays(String days) {
+        return new BigDecimal(days.trim()).multiply(BigDecimal.valueOf(MINUTES_PER_DAY))
+            .setScale(0, RoundingMode.HALF_UP).longValueExact();
+    }
+    
+    // For display only; exact for every duration bookable in whole hours
+    public static double toDays(long minutes) {
+        return (double) minutes / MINUTES_PER_DAY;
+    }
+    
+    public static long durationMinutes(LocalDate startDate, LocalDate endDate, DayPortion portion, int hours) {
+        switch (portion) {
+            case FIRST_HALF:
+            case SECOND_HALF:
+                return MINUTES_PER_HALF_DAY;
+            case HOURS:
+                return hours * MINUTES_PER_HOUR;
+            default:
+                return (ChronoUnit.DAYS.between(startDate, endDate) + 1) * MINUTES_PER_DAY;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.leavemanagement.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "leave_year_checkpoints",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"leave_year", "partition_no"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeaveYearCheckpoint {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "leave_year", nullable = false)
+    private Integer leaveYear;
+    
+    @Column(name = "partition_no", nullable = false)
+    private Integer partitionNo;
+    
+    // Inclusive user id range owned by this partition, fixed when the run starts
+    @Column(nullable = false)
+    private Long firstUserId;
+    
+    @Column(nullable = false)
+    private Long lastUserId;
+    
+    // Highest user id already rolled over; the next chunk resumes after it
+    @Column(nullable = false)
+    private Long processedUpToId;
+    
+    @Column(nullable = false)
+    private Long processedCount = 0L;
+    
+    @Column(nullable = false)
+    private Boolean completed = false;
+    
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,26 @@
+package com.leavemanagement.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+// One row per cluster-wide job; whoever holds an unexpired lease runs it (see SchedulerLeaseManager)
+@Entity
+@Table(name = "scheduler_leases")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SchedulerLease {
+    
+    @Id
+    @Column(length = 64)
+    private String name;
+    
+    @Column(nullable = false, length = 128)
+    private String owner;
+    
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -1,15 +1,20 @@
 package com.leavemanagement.model;
 
+import com.leavemanagement.service.cache.UserInvalidationListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.TenantId;
 import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+    @Index(name = "idx_users_tenant_department", columnList = "tenant_id, department")
+})
+@EntityListeners(UserInvalidationListener.class)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -19,6 +24,11 @@ public class User {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     
+    @TenantId
+    @Column(name = "tenant_id", nullable = false, length = 64,
+            columnDefinition = "varchar(64) not null default 'default'")
+    private String tenantId;
+    
     @Column(nullable = false, unique = true)
     private String username;
     
@@ -33,8 +43,17 @@ public class User {
     
     private String department;
     
-    @Column(nullable = false)
-    private Double leaveBalance = 20.0; // Default 20 days per year
+    // Direct manager; the full reporting line is kept in user_hierarchy
+    @Column(name = "manager_id")
+    private Long managerId;
+    
+    // Remaining leave in minutes of working time (see LeaveUnits); 20 days for new users
+    @Column(name = "leave_balance_minutes", nullable = false, columnDefinition = "bigint not null default 0")
+    private long leaveBalanceMinutes = LeaveUnits.ofDays(20);
+    
+    // Part of the balance brought over from the previous leave year by LeaveYearRolloverService
+    @Column(name = "carried_over_minutes", nullable = false, columnDefinition = "bigint not null default 0")
+    private long carriedOverMinutes;
     
     @ElementCollection(fetch = FetchType.EAGER)
     @CollectionTable(name = "user_roles", joinColumns = @JoinColumn(name = "user_id"))
@@ -44,6 +63,11 @@ public class User {
     @Column(nullable = false)
     private Boolean enabled = true;
     
+    // Bumped on every change, also by JDBC writers; guards concurrent updates and stamps cache invalidations
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint not null default 0")
+    private long version;
+    
     @Column(name = "created_at")
     private LocalDateTime createdAt;
     
@@ -0,0 +1,39 @@
+package com.leavemanagement.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.io.Serializable;
+
+// Closure table of the reporting line: one row per (manager, report) pair at any depth,
+// plus a depth-0 row per user. Maintained by OrgHierarchyService.
+@Entity
+@Table(name = "user_hierarchy", indexes = {
+    @Index(name = "idx_user_hierarchy_descendant", columnList = "descendant_id, ancestor_id")
+})
+@IdClass(UserHierarchy.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserHierarchy {
+    
+    @Id
+    @Column(name = "ancestor_id")
+    private Long ancestorId;
+    
+    @Id
+    @Column(name = "descendant_id")
+    private Long descendantId;
+    
+    @Column(nullable = false)
+    private Integer depth;
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long ancestorId;
+        private Long descendantId;
+    }
+}
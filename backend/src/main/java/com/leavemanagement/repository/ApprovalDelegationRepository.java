@@ -0,0 +1,21 @@
+package com.leavemanagement.repository;
+
+import com.leavemanagement.model.ApprovalDelegation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface ApprovalDelegationRepository extends JpaRepository<ApprovalDelegation, Long> {
+    
+    // Delegations the user gave or received that have not ended yet
+    @Query("SELECT d FROM ApprovalDelegation d JOIN FETCH d.delegator JOIN FETCH d.delegate " +
+           "WHERE (d.delegator.id = :userId OR d.delegate.id = :userId) AND d.endDate >= :today ORDER BY d.startDate")
+    List<ApprovalDelegation> findCurrentForUser(Long userId, LocalDate today);
+    
+    @Query("SELECT COUNT(d) > 0 FROM ApprovalDelegation d WHERE d.delegator.id = :delegatorId " +
+           "AND d.startDate <= :endDate AND d.endDate >= :startDate")
+    boolean existsOverlapping(Long delegatorId, LocalDate startDate, LocalDate endDate);
+}
@@ -0,0 +1,18 @@
+package com.leavemanagement.repository;
+
+import com.leavemanagement.model.ApproverNotification;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ApproverNotificationRepository extends JpaRepository<ApproverNotification, Long> {
+    List<ApproverNotification> findTop100ByRecipientIdAndReadAtIsNullOrderByIdDesc(Long recipientId);
+    
+    @Modifying
+    @Query("UPDATE ApproverNotification n SET n.readAt = :readAt WHERE n.id = :id AND n.recipientId = :recipientId AND n.readAt IS NULL")
+    int markRead(Long id, Long recipientId, LocalDateTime readAt);
+}
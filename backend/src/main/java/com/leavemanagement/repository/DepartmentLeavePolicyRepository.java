@@ -0,0 +1,11 @@
+package com.leavemanagement.repository;
+
+import com.leavemanagement.model.DepartmentLeavePolicy;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import java.util.Optional;
+
+@Repository
+public interface DepartmentLeavePolicyRepository extends JpaRepository<DepartmentLeavePolicy, Long> {
+    Optional<DepartmentLeavePolicy> findByDepartment(String department);
+}
@@ -0,0 +1,13 @@
+package com.leavemanagement.repository;
+
+import com.leavemanagement.model.Leave;
+import java.time.LocalDate;
+import java.util.List;
+
+// Read paths that also cover leaves_archive, but only query it when the requested range reaches past the archive horizon
+public interface LeaveArchiveQueries {
+    List<Leave> findByUserIncludingArchive(Long userId);
+    
+    // Leaves overlapping [from, to]; either bound may be null for an open range
+    List<Leave> findInRangeIncludingArchive(LocalDate from, LocalDate to);
+}
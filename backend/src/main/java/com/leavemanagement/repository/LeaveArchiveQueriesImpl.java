@@ -0,0 +1,78 @@
+package com.leavemanagement.repository;
+
+import com.leavemanagement.model.ArchivedLeave;
+import com.leavemanagement.model.Leave;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.springframework.beans.factory.annotation.Value;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+public class LeaveArchiveQueriesImpl implements LeaveArchiveQueries {
+    
+    private static final Comparator<Leave> NEWEST_FIRST =
+        Comparator.comparing(Leave::getCreatedAt, Comparator.nullsLast(Comparator.reverseOrder()));
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Value("${app.archive.horizon-days:365}")
+    private int horizonDays;
+    
+    @Override
+    public List<Leave> findByUserIncludingArchive(Long userId) {
+        List<Leave> leaves = new ArrayList<>(entityManager.createQuery(
+                "SELECT l FROM Leave l WHERE l.user.id = :userId ORDER BY l.createdAt DESC", Leave.class)
+            .setParameter("userId", userId)
+            .getResultList());
+        
+        entityManager.createQuery(
+                "SELECT a FROM ArchivedLeave a WHERE a.user.id = :userId", ArchivedLeave.class)
+            .setParameter("userId", userId)
+            .getResultList()
+            .forEach(archived -> leaves.add(archived.toLeave()));
+        
+        leaves.sort(NEWEST_FIRST);
+        return leaves;
+    }
+    
+    @Override
+    public List<Leave> findInRangeIncludingArchive(LocalDate from, LocalDate to) {
+        List<Leave> leaves = new ArrayList<>(rangeQuery("Leave", Leave.class, from, to).getResultList());
+        
+        // Everything archived ended before the horizon, so newer ranges never need the archive
+        if (from == null || from.isBefore(archiveCutoff())) {
+            rangeQuery("ArchivedLeave", ArchivedLeave.class, from, to).getResultList()
+                .forEach(archived -> leaves.add(archived.toLeave()));
+            leaves.sort(NEWEST_FIRST);
+        }
+        return leaves;
+    }
+    
+    private LocalDate archiveCutoff() {
+        return LocalDate.now().minusDays(horizonDays);
+    }
+    
+    private <T> TypedQuery<T> rangeQuery(String entity, Class<T> type, LocalDate from, LocalDate to) {
+        StringBuilder jpql = new StringBuilder("SELECT l FROM ").append(entity).append(" l JOIN FETCH l.user WHERE 1 = 1");
+        if (from != null) {
+            jpql.append(" AND l.endDate >= :from");
+        }
+        if (to != null) {
+            jpql.append(" AND l.startDate <= :to");
+        }
+        jpql.append(" ORDER BY l.createdAt DESC");
+        
+        TypedQuery<T> query = entityManager.createQuery(jpql.toString(), type);
+        if (from != null) {
+            query.setParameter("from", from);
+        }
+        if (to != null) {
+            query.setParameter("to", to);
+        }
+        return query;
+    }
+}
@@ -0,0 +1,15 @@
+package com.leavemanagement.repository;
+
+import com.leavemanagement.model.LeaveAuditEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import java.util.List;
+
+@Repository
+public interface LeaveAuditRepository extends JpaRepository<LeaveAuditEntry, Long> {
+    List<LeaveAuditEntry> findByLeaveIdOrderByIdAsc(Long leaveId);
+    
+    // Keyset page of a user's history, newest first: pass Long.MAX_VALUE for the first page
+    List<LeaveAuditEntry> findByUserIdAndIdLessThanOrderByIdDesc(Long userId, Long beforeId, Pageable pageable);
+}
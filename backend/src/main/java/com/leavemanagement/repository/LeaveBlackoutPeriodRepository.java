@@ -0,0 +1,19 @@
+package com.leavemanagement.repository;
+
+import com.leavemanagement.model.LeaveBlackoutPeriod;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface LeaveBlackoutPeriodRepository extends JpaRepository<LeaveBlackoutPeriod, Long> {
+    
+    // Blackouts of the department or company-wide that have not ended yet
+    @Query("SELECT b FROM LeaveBlackoutPeriod b WHERE (b.department IS NULL OR b.department = :department) " +
+           "AND b.endDate >= :today ORDER BY b.startDate")
+    List<LeaveBlackoutPeriod> findUpcoming(String department, LocalDate today);
+    
+    List<LeaveBlackoutPeriod> findByEndDateGreaterThanEqualOrderByStartDate(LocalDate today);
+}
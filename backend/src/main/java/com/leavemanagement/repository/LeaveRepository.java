@@ -7,10 +7,12 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface LeaveRepository extends JpaRepository<Leave, Long> {
+public interface LeaveRepository extends JpaRepository<Leave, Long>, LeaveArchiveQueries {
     List<Leave> findByUser(User user);
     List<Leave> findByUserOrderByCreatedAtDesc(User user);
     List<Leave> findByStatus(LeaveStatus status);
@@ -19,9 +21,32 @@ public interface LeaveRepository extends JpaRepository<Leave, Long> {
     @Query("SELECT l FROM Leave l WHERE l.user.id = :userId AND l.status = :status")
     List<Leave> findByUserIdAndStatus(Long userId, LeaveStatus status);
     
+    // Leave of the current leave year, which LeaveArchivalService never archives
+    List<Leave> findByUserIdAndStatusAndStartDateGreaterThanEqual(Long userId, LeaveStatus status, LocalDate from);
+    
     @Query("SELECT l FROM Leave l WHERE l.user.id = :userId AND " +
            "((l.startDate BETWEEN :startDate AND :endDate) OR " +
            "(l.endDate BETWEEN :startDate AND :endDate) OR " +
            "(l.startDate <= :startDate AND l.endDate >= :endDate))")
     List<Leave> findOverlappingLeaves(Long userId, LocalDate startDate, LocalDate endDate);
+    
+    // [userId, startDate, endDate] of every approved full-day leave of the department's other members
+    // touching the range, for the coverage rule; part-day leave leaves the person at work that day
+    @Query("SELECT u.id, l.startDate, l.endDate FROM Leave l JOIN l.user u WHERE u.department = :department " +
+           "AND u.id <> :userId AND l.status = 'APPROVED' AND l.portion = 'FULL_DAY' " +
+           "AND l.startDate <= :endDate AND l.endDate >= :startDate")
+    List<Object[]> findApprovedFullDayRangesInDepartment(String department, Long userId, LocalDate startDate, LocalDate endDate);
+    
+    // Pending work of everyone below any of the approvers in the reporting line (depth > 0 excludes
+    // their own) or escalated to one of them by the SLA scan, never including the acting user's own
+    // leaves, which a delegate may be among
+    @Query("SELECT l FROM Leave l JOIN FETCH l.user u WHERE l.status = :status AND u.id <> :userId " +
+           "AND (l.escalatedTo IN :approverIds OR EXISTS (SELECT 1 FROM UserHierarchy h " +
+           "WHERE h.descendantId = u.id AND h.ancestorId IN :approverIds AND h.depth > 0)) ORDER BY l.createdAt")
+    List<Leave> findByStatusInSubtrees(Collection<Long> approverIds, Long userId, LeaveStatus status);
+    
+    @Query("SELECT l FROM Leave l WHERE l.id = :leaveId AND l.user.id <> :userId " +
+           "AND (l.escalatedTo IN :approverIds OR EXISTS (SELECT 1 FROM UserHierarchy h " +
+           "WHERE h.descendantId = l.user.id AND h.ancestorId IN :approverIds AND h.depth > 0))")
+    Optional<Leave> findByIdInSubtrees(Long leaveId, Collection<Long> approverIds, Long userId);
 }
@@ -0,0 +1,15 @@
+package com.leavemanagement.repository;
+
+import com.leavemanagement.model.Leave.LeaveType;
+import com.leavemanagement.model.LeaveTypeBalance;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface LeaveTypeBalanceRepository extends JpaRepository<LeaveTypeBalance, Long> {
+    Optional<LeaveTypeBalance> findByUserIdAndLeaveType(Long userId, LeaveType leaveType);
+    
+    List<LeaveTypeBalance> findByUserId(Long userId);
+}
@@ -0,0 +1,11 @@
+package com.leavemanagement.repository;
+
+import com.leavemanagement.model.LeaveYearCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import java.util.List;
+
+@Repository
+public interface LeaveYearCheckpointRepository extends JpaRepository<LeaveYearCheckpoint, Long> {
+    List<LeaveYearCheckpoint> findByLeaveYearOrderByPartitionNo(Integer leaveYear);
+}
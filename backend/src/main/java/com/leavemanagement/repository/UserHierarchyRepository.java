@@ -0,0 +1,47 @@
+package com.leavemanagement.repository;
+
+import com.leavemanagement.model.UserHierarchy;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface UserHierarchyRepository extends JpaRepository<UserHierarchy, UserHierarchy.Key> {
+    
+    @Query("SELECT COUNT(h) > 0 FROM UserHierarchy h WHERE h.ancestorId = :ancestorId AND h.descendantId = :descendantId")
+    boolean isInSubtree(Long ancestorId, Long descendantId);
+    
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO user_hierarchy (ancestor_id, descendant_id, depth) " +
+                   "SELECT u.id, u.id, 0 FROM users u", nativeQuery = true)
+    int insertMissingSelfRows();
+    
+    // Every (ancestor, user) pair implied by the users.manager_id chain; depth is capped so a cycle
+    // in hand-edited data cannot recurse without end
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO user_hierarchy (ancestor_id, descendant_id, depth) " +
+                   "WITH RECURSIVE chain (ancestor_id, descendant_id, depth) AS (" +
+                   "SELECT u.manager_id, u.id, 1 FROM users u WHERE u.manager_id IS NOT NULL " +
+                   "UNION ALL " +
+                   "SELECT m.manager_id, c.descendant_id, c.depth + 1 FROM chain c JOIN users m ON m.id = c.ancestor_id " +
+                   "WHERE m.manager_id IS NOT NULL AND c.depth < 64) " +
+                   "SELECT ancestor_id, descendant_id, depth FROM chain", nativeQuery = true)
+    int insertMissingAncestorRows();
+    
+    // Removes every path from outside the subtree rooted at :userId into it
+    @Modifying
+    @Query(value = "DELETE h FROM user_hierarchy h " +
+                   "JOIN user_hierarchy sub ON sub.descendant_id = h.descendant_id AND sub.ancestor_id = :userId " +
+                   "LEFT JOIN user_hierarchy own ON own.ancestor_id = :userId AND own.descendant_id = h.ancestor_id " +
+                   "WHERE own.ancestor_id IS NULL", nativeQuery = true)
+    int detachSubtree(Long userId);
+    
+    // Links every ancestor of :managerId (itself included) to every node of the subtree rooted at :userId
+    @Modifying
+    @Query(value = "INSERT INTO user_hierarchy (ancestor_id, descendant_id, depth) " +
+                   "SELECT sup.ancestor_id, sub.descendant_id, sup.depth + sub.depth + 1 " +
+                   "FROM user_hierarchy sup JOIN user_hierarchy sub " +
+                   "ON sup.descendant_id = :managerId AND sub.ancestor_id = :userId", nativeQuery = true)
+    int attachSubtree(Long userId, Long managerId);
+}
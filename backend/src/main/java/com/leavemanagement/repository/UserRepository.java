@@ -13,4 +13,5 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Boolean existsByUsername(String username);
     Boolean existsByEmail(String email);
     List<User> findByRolesContaining(String role);
+    long countByDepartmentAndEnabledTrue(String department);
 }
@@ -25,14 +25,12 @@ public class CustomUserDetailsService implements UserDetailsService {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
         
-        return new org.springframework.security.core.userdetails.User(
+        return new VersionedUserDetails(
                 user.getUsername(),
                 user.getPassword(),
                 user.getEnabled(),
-                true,
-                true,
-                true,
-                getAuthorities(user)
+                getAuthorities(user),
+                user.getVersion()
         );
     }
     
@@ -1,5 +1,8 @@
 package com.leavemanagement.security;
 
+import com.leavemanagement.service.trace.RequestTrace;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -23,35 +26,64 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Autowired
     private UserDetailsService userDetailsService;
     
+    @Autowired
+    private TenantUserDetailsCache tenantUserDetailsCache;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, 
                                     FilterChain filterChain) throws ServletException, IOException {
         
+        long traceStart = RequestTrace.startTimer();
         final String authorizationHeader = request.getHeader("Authorization");
         
         String username = null;
+        String tenantId = null;
         String jwt = null;
         
         if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
             jwt = authorizationHeader.substring(7);
             try {
                 username = jwtUtil.extractUsername(jwt);
+                tenantId = jwtUtil.extractTenant(jwt);
+                if (tenantId == null) {
+                    // Tokens issued before multi-tenancy belong to the default tenant
+                    tenantId = TenantContext.DEFAULT_TENANT;
+                }
             } catch (Exception e) {
                 logger.error("JWT Token extraction failed: " + e.getMessage());
             }
         }
         
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
-            
-            if (jwtUtil.validateToken(jwt, userDetails)) {
-                UsernamePasswordAuthenticationToken authenticationToken = 
-                    new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-                authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                SecurityContextHolder.getContext().setAuthentication(authenticationToken);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+                // Set before the lookup so the user is only found within the token's tenant
+                TenantContext.set(tenantId);
+                String user = username;
+                UserDetails userDetails = tenantUserDetailsCache.get(tenantId, username,
+                    () -> this.userDetailsService.loadUserByUsername(user));
+                
+                if (jwtUtil.validateToken(jwt, userDetails)) {
+                    UsernamePasswordAuthenticationToken authenticationToken = 
+                        new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+                    authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                    SecurityContextHolder.getContext().setAuthentication(authenticationToken);
+                    RequestTrace.identify(tenantId, username);
+                } else {
+                    TenantContext.clear();
+                }
             }
+            
+            RequestTrace.stopTimer(RequestTrace.JWT_FILTER, traceStart);
+            filterChain.doFilter(request, response);
+        } finally {
+            sample.stop(meterRegistry.timer("tenant.http.requests",
+                "tenant", TenantContext.get() != null ? TenantContext.get() : "none",
+                "status", String.valueOf(response.getStatus())));
+            TenantContext.clear();
         }
-        
-        filterChain.doFilter(request, response);
     }
 }
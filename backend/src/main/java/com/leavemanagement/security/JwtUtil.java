@@ -14,6 +14,8 @@ import java.util.function.Function;
 @Component
 public class JwtUtil {
     
+    private static final String TENANT_CLAIM = "tenant";
+    
     @Value("${jwt.secret}")
     private String secret;
     
@@ -28,6 +30,10 @@ public class JwtUtil {
         return extractClaim(token, Claims::getSubject);
     }
     
+    public String extractTenant(String token) {
+        return extractClaim(token, claims -> claims.get(TENANT_CLAIM, String.class));
+    }
+    
     public Date extractExpiration(String token) {
         return extractClaim(token, Claims::getExpiration);
     }
@@ -49,8 +55,9 @@ public class JwtUtil {
         return extractExpiration(token).before(new Date());
     }
     
-    public String generateToken(UserDetails userDetails) {
+    public String generateToken(UserDetails userDetails, String tenantId) {
         Map<String, Object> claims = new HashMap<>();
+        claims.put(TENANT_CLAIM, tenantId);
         return createToken(claims, userDetails.getUsername());
     }
     
@@ -0,0 +1,28 @@
+package com.leavemanagement.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * The tenant that runs the deployment (app.tenant.operator-tenant, "default" unless set). Its admins
+ * run the jobs that touch every tenant (rollover, archival, SLA scan), see every tenant's request
+ * traces and may create users in other tenants; admins of any other tenant only act on their own.
+ * Threads without a tenant, such as scheduled jobs, count as the operator. Blank means no tenant.
+ */
+@Component
+public class OperatorTenant {
+    
+    @Value("${app.tenant.operator-tenant:default}")
+    private String operatorTenant;
+    
+    public boolean isCurrent() {
+        String tenantId = TenantContext.get();
+        return tenantId == null || (!operatorTenant.isBlank() && operatorTenant.equals(tenantId));
+    }
+    
+    public void require() {
+        if (!isCurrent()) {
+            throw new RuntimeException("Only admins of the operator tenant can do this");
+        }
+    }
+}
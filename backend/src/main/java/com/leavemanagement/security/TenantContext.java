@@ -0,0 +1,31 @@
+package com.leavemanagement.security;
+
+/**
+ * Tenant of the current request, taken from the JWT by JwtAuthenticationFilter. Threads without
+ * a tenant (login, registration, scheduled jobs) run as root and see every tenant's rows, which
+ * is what the username lookup at login and the company-wide batch jobs need.
+ */
+public final class TenantContext {
+    
+    public static final String DEFAULT_TENANT = "default";
+    
+    public static final String ROOT = "__root__";
+    
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+    
+    private TenantContext() {
+    }
+    
+    public static void set(String tenantId) {
+        CURRENT.set(tenantId);
+    }
+    
+    // The tenant id, or null when running as root
+    public static String get() {
+        return CURRENT.get();
+    }
+    
+    public static void clear() {
+        CURRENT.remove();
+    }
+}
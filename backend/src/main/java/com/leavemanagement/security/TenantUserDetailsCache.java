@@ -0,0 +1,98 @@
+package com.leavemanagement.security;
+
+import com.leavemanagement.service.cache.InvalidatableCache;
+import com.leavemanagement.service.cache.InvalidationMessage;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Short-lived cache of the UserDetails that JwtAuthenticationFilter loads for every request,
+ * partitioned by tenant so entries can never be served across tenants and one busy tenant
+ * cannot evict another's. Changes to a user are invalidated on every node through
+ * CacheInvalidationBus; the TTL bounds staleness should an invalidation be lost.
+ */
+@Component
+public class TenantUserDetailsCache implements InvalidatableCache {
+    
+    public static final String NAME = "users";
+    
+    @Value("${app.tenant.user-cache-ttl-ms:30000}")
+    private long ttlMillis;
+    
+    @Value("${app.tenant.user-cache-max-entries:10000}")
+    private int maxEntriesPerTenant;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    private final Map<String, Map<String, CachedUser>> tenants = new ConcurrentHashMap<>();
+    
+    public UserDetails get(String tenantId, String username, Supplier<UserDetails> loader) {
+        Map<String, CachedUser> users = tenants.computeIfAbsent(tenantId, t -> new ConcurrentHashMap<>());
+        CachedUser cached = users.get(username);
+        long now = System.currentTimeMillis();
+        
+        if (cached != null && now - cached.loadedAt < ttlMillis) {
+            meterRegistry.counter("tenant.user_cache.requests", "tenant", tenantId, "result", "hit").increment();
+            return cached.userDetails;
+        }
+        
+        meterRegistry.counter("tenant.user_cache.requests", "tenant", tenantId, "result", "miss").increment();
+        UserDetails userDetails = loader.get();
+        if (users.size() >= maxEntriesPerTenant) {
+            users.clear();
+        }
+        long version = userDetails instanceof VersionedUserDetails versioned ? versioned.getVersion() : 0;
+        users.put(username, new CachedUser(userDetails, version, now));
+        return userDetails;
+    }
+    
+    public void evict(String tenantId, String username) {
+        Map<String, CachedUser> users = tenants.get(tenantId);
+        if (users != null) {
+            users.remove(username);
+        }
+    }
+    
+    public static String key(String tenantId, String username) {
+        return tenantId + "/" + username;
+    }
+    
+    @Override
+    public String cacheName() {
+        return NAME;
+    }
+    
+    // Keys are tenant/username, split at the first slash
+    @Override
+    public void invalidate(String key, long version) {
+        if (InvalidationMessage.ALL_KEYS.equals(key)) {
+            tenants.clear();
+            return;
+        }
+        int slash = key.indexOf('/');
+        Map<String, CachedUser> users = slash > 0 ? tenants.get(key.substring(0, slash)) : null;
+        if (users != null) {
+            users.computeIfPresent(key.substring(slash + 1),
+                (username, cached) -> version == 0 || cached.version < version ? null : cached);
+        }
+    }
+    
+    private static class CachedUser {
+        private final UserDetails userDetails;
+        private final long version;
+        private final long loadedAt;
+        
+        private CachedUser(UserDetails userDetails, long version, long loadedAt) {
+            this.userDetails = userDetails;
+            this.version = version;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
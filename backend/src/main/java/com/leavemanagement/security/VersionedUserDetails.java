@@ -0,0 +1,21 @@
+package com.leavemanagement.security;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import java.util.Collection;
+
+// UserDetails stamped with the version of the user row it was loaded from
+public class VersionedUserDetails extends User {
+    
+    private final long version;
+    
+    public VersionedUserDetails(String username, String password, boolean enabled,
+                                Collection<? extends GrantedAuthority> authorities, long version) {
+        super(username, password, enabled, true, true, true, authorities);
+        this.version = version;
+    }
+    
+    public long getVersion() {
+        return version;
+    }
+}
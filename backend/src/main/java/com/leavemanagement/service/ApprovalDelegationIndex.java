@@ -0,0 +1,155 @@
+package com.leavemanagement.service;
+
+import com.leavemanagement.service.cache.InvalidatableCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Every approval delegation that has not ended, across tenants, held in memory so routing a
+ * pending queue or an approval costs no query. The snapshot indexes who acts for whom on one day
+ * and knows the next day a delegation starts or ends; until then lookups use it as is, after that
+ * it is rebuilt from memory. The table is only read again when a delegation changes on any node
+ * (through CacheInvalidationBus), and every app.approvals.delegation-refresh-ms as a fallback.
+ */
+@Component
+public class ApprovalDelegationIndex implements InvalidatableCache {
+    
+    public static final String NAME = "approval-delegations";
+    
+    private static final String SELECT_CURRENT =
+        "SELECT delegator_id, delegate_id, start_date, end_date FROM approval_delegations WHERE end_date >= ?";
+    
+    private static final long[] NONE = new long[0];
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    private volatile Snapshot snapshot;
+    
+    // The user plus everyone whose approvals pass to them today, directly or along a chain of delegations
+    public Set<Long> approverScope(Long userId) {
+        Snapshot current = current();
+        Set<Long> scope = new LinkedHashSet<>();
+        scope.add(userId);
+        Deque<Long> queue = new ArrayDeque<>();
+        queue.add(userId);
+        while (!queue.isEmpty()) {
+            for (long delegatorId : current.delegatorsByDelegate.getOrDefault(queue.poll(), NONE)) {
+                if (scope.add(delegatorId)) {
+                    queue.add(delegatorId);
+                }
+            }
+        }
+        return scope;
+    }
+    
+    // Who currently covers the user's approvals, or null when they have not delegated
+    public Long activeDelegate(Long delegatorId) {
+        return current().delegateByDelegator.get(delegatorId);
+    }
+    
+    @Scheduled(fixedDelayString = "${app.approvals.delegation-refresh-ms:300000}")
+    public synchronized void reload() {
+        LocalDate today = LocalDate.now();
+        List<Window> windows = jdbcTemplate.query(SELECT_CURRENT,
+            (rs, rowNum) -> new Window(rs.getLong("delegator_id"), rs.getLong("delegate_id"),
+                rs.getDate("start_date").toLocalDate(), rs.getDate("end_date").toLocalDate()),
+            Date.valueOf(today));
+        snapshot = new Snapshot(windows, today);
+    }
+    
+    @Override
+    public String cacheName() {
+        return NAME;
+    }
+    
+    @Override
+    public void invalidate(String key, long version) {
+        reload();
+    }
+    
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        LocalDate today = LocalDate.now();
+        if (current == null || !current.covers(today)) {
+            synchronized (this) {
+                current = snapshot;
+                if (current == null) {
+                    reload();
+                } else if (!current.covers(today)) {
+                    snapshot = new Snapshot(current.windows, today);
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+    
+    private static class Window {
+        private final long delegatorId;
+        private final long delegateId;
+        private final LocalDate startDate;
+        private final LocalDate endDate;
+        
+        private Window(long delegatorId, long delegateId, LocalDate startDate, LocalDate endDate) {
+            this.delegatorId = delegatorId;
+            this.delegateId = delegateId;
+            this.startDate = startDate;
+            this.endDate = endDate;
+        }
+    }
+    
+    private static class Snapshot {
+        private final LocalDate day;
+        // First day the active set differs from day's
+        private final LocalDate validUntil;
+        private final List<Window> windows;
+        private final Map<Long, long[]> delegatorsByDelegate;
+        private final Map<Long, Long> delegateByDelegator = new HashMap<>();
+        
+        private Snapshot(List<Window> all, LocalDate day) {
+            this.day = day;
+            LocalDate nextChange = LocalDate.MAX;
+            List<Window> remaining = new ArrayList<>(all.size());
+            Map<Long, List<Long>> active = new HashMap<>();
+            for (Window window : all) {
+                if (window.endDate.isBefore(day)) {
+                    continue;
+                }
+                remaining.add(window);
+                if (window.startDate.isAfter(day)) {
+                    nextChange = min(nextChange, window.startDate);
+                } else {
+                    nextChange = min(nextChange, window.endDate.plusDays(1));
+                    active.computeIfAbsent(window.delegateId, id -> new ArrayList<>()).add(window.delegatorId);
+                    delegateByDelegator.put(window.delegatorId, window.delegateId);
+                }
+            }
+            this.validUntil = nextChange;
+            this.windows = remaining;
+            this.delegatorsByDelegate = new HashMap<>(active.size() * 2);
+            active.forEach((delegateId, delegators) ->
+                delegatorsByDelegate.put(delegateId, delegators.stream().mapToLong(Long::longValue).toArray()));
+        }
+        
+        private boolean covers(LocalDate date) {
+            return !date.isBefore(day) && date.isBefore(validUntil);
+        }
+        
+        private static LocalDate min(LocalDate a, LocalDate b) {
+            return a.isBefore(b) ? a : b;
+        }
+    }
+}
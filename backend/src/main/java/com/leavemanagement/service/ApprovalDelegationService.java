@@ -0,0 +1,100 @@
+package com.leavemanagement.service;
+
+import com.leavemanagement.dto.LeaveDTO;
+import com.leavemanagement.model.ApprovalDelegation;
+import com.leavemanagement.model.User;
+import com.leavemanagement.repository.ApprovalDelegationRepository;
+import com.leavemanagement.repository.UserRepository;
+import com.leavemanagement.service.cache.CacheInvalidationBus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// Managers handing their approvals to another manager while they are away
+@Service
+public class ApprovalDelegationService {
+    
+    @Autowired
+    private ApprovalDelegationRepository approvalDelegationRepository;
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    @Autowired
+    private CacheInvalidationBus cacheInvalidationBus;
+    
+    @Transactional
+    public LeaveDTO.DelegationResponse delegate(String username, LeaveDTO.DelegationRequest request) {
+        User delegator = userRepository.findByUsername(username)
+            .orElseThrow(() -> new RuntimeException("User not found"));
+        // Loads by id are not tenant-filtered, so a user from another tenant is treated as missing
+        User delegate = userRepository.findById(request.getDelegateId())
+            .filter(u -> u.getTenantId().equals(delegator.getTenantId()))
+            .orElseThrow(() -> new RuntimeException("Delegate not found"));
+        
+        if (delegate.getId().equals(delegator.getId())) {
+            throw new RuntimeException("You cannot delegate approvals to yourself");
+        }
+        if (!delegate.getRoles().contains("MANAGER")) {
+            throw new RuntimeException("Approvals can only be delegated to a manager");
+        }
+        if (request.getEndDate().isBefore(request.getStartDate())) {
+            throw new RuntimeException("End date cannot be before start date");
+        }
+        if (request.getEndDate().isBefore(LocalDate.now())) {
+            throw new RuntimeException("Delegation cannot end in the past");
+        }
+        if (approvalDelegationRepository.existsOverlapping(delegator.getId(), request.getStartDate(), request.getEndDate())) {
+            throw new RuntimeException("You already have a delegation in this period");
+        }
+        
+        ApprovalDelegation delegation = new ApprovalDelegation();
+        delegation.setDelegator(delegator);
+        delegation.setDelegate(delegate);
+        delegation.setStartDate(request.getStartDate());
+        delegation.setEndDate(request.getEndDate());
+        delegation.setReason(request.getReason());
+        
+        delegation = approvalDelegationRepository.save(delegation);
+        cacheInvalidationBus.invalidateAll(ApprovalDelegationIndex.NAME);
+        return mapToResponse(delegation);
+    }
+    
+    @Transactional
+    public void cancel(String username, Long id) {
+        User user = userRepository.findByUsername(username)
+            .orElseThrow(() -> new RuntimeException("User not found"));
+        ApprovalDelegation delegation = approvalDelegationRepository.findById(id)
+            .filter(d -> d.getDelegator().getId().equals(user.getId()))
+            .orElseThrow(() -> new RuntimeException("Delegation not found"));
+        
+        approvalDelegationRepository.delete(delegation);
+        cacheInvalidationBus.invalidateAll(ApprovalDelegationIndex.NAME);
+    }
+    
+    // Current and upcoming delegations the user gave or received
+    @Transactional(readOnly = true)
+    public List<LeaveDTO.DelegationResponse> getMyDelegations(String username) {
+        User user = userRepository.findByUsername(username)
+            .orElseThrow(() -> new RuntimeException("User not found"));
+        return approvalDelegationRepository.findCurrentForUser(user.getId(), LocalDate.now()).stream()
+            .map(this::mapToResponse)
+            .collect(Collectors.toList());
+    }
+    
+    private LeaveDTO.DelegationResponse mapToResponse(ApprovalDelegation delegation) {
+        return new LeaveDTO.DelegationResponse(
+            delegation.getId(),
+            delegation.getDelegator().getId(),
+            delegation.getDelegator().getFullName(),
+            delegation.getDelegate().getId(),
+            delegation.getDelegate().getFullName(),
+            delegation.getStartDate(),
+            delegation.getEndDate(),
+            delegation.getReason()
+        );
+    }
+}
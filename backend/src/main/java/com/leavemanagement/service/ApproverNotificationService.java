@@ -0,0 +1,88 @@
+package com.leavemanagement.service;
+
+import com.leavemanagement.dto.LeaveDTO;
+import com.leavemanagement.model.ApproverNotification;
+import com.leavemanagement.model.User;
+import com.leavemanagement.repository.ApproverNotificationRepository;
+import com.leavemanagement.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Turns each LeaveSlaEvent into an inbox entry for the approver it targets and, when they have
+ * delegated, for the delegate covering them. Managers read the inbox from /api/manager/notifications.
+ */
+@Service
+public class ApproverNotificationService {
+
+    private static final Logger log = LoggerFactory.getLogger(ApproverNotificationService.class);
+
+    // Plain JDBC with an explicit tenant: the scan runs outside any tenant and covers all of them
+    private static final String INSERT =
+        "INSERT INTO approver_notifications (tenant_id, recipient_id, leave_id, type, message, created_at) " +
+        "VALUES (?, ?, ?, ?, ?, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApproverNotificationRepository approverNotificationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @EventListener
+    public void onSlaEvent(LeaveSlaEvent event) {
+        String type = event.getType() == LeaveSlaEvent.Type.ESCALATION ? "SLA_ESCALATION" : "SLA_REMINDER";
+        String message = event.getType() == LeaveSlaEvent.Type.ESCALATION
+            ? "Leave " + event.getLeaveId() + " has been pending " + event.getPendingHours()
+                + " hours and was escalated to you (level " + event.getEscalationLevel() + ")"
+            : "Leave " + event.getLeaveId() + " has been pending " + event.getPendingHours() + " hours and awaits your decision";
+        notify(event, event.getApproverId(), type, message);
+        if (event.getDelegateId() != null) {
+            notify(event, event.getDelegateId(), type, message + " (you are covering for approver " + event.getApproverId() + ")");
+        }
+    }
+
+    // A failed insert must not stop the scan; the reminder is raised again after the next interval
+    private void notify(LeaveSlaEvent event, Long recipientId, String type, String message) {
+        try {
+            jdbcTemplate.update(INSERT, event.getTenantId(), recipientId, event.getLeaveId(), type, message,
+                Timestamp.valueOf(LocalDateTime.now()));
+            meterRegistry.counter("leave.sla.notifications.delivered", "tenant", event.getTenantId()).increment();
+        } catch (RuntimeException e) {
+            log.error("Could not notify user {} about leave {}", recipientId, event.getLeaveId(), e);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public List<LeaveDTO.NotificationResponse> getUnread(String username) {
+        User user = userRepository.findByUsername(username)
+            .orElseThrow(() -> new RuntimeException("User not found"));
+        return approverNotificationRepository.findTop100ByRecipientIdAndReadAtIsNullOrderByIdDesc(user.getId()).stream()
+            .map(n -> new LeaveDTO.NotificationResponse(n.getId(), n.getLeaveId(), n.getType(), n.getMessage(), n.getCreatedAt()))
+            .collect(Collectors.toList());
+    }
+
+    @Transactional
+    public void markRead(String username, Long id) {
+        User user = userRepository.findByUsername(username)
+            .orElseThrow(() -> new RuntimeException("User not found"));
+        if (approverNotificationRepository.markRead(id, user.getId(), LocalDateTime.now()) == 0) {
+            throw new RuntimeException("Notification not found");
+        }
+    }
+}
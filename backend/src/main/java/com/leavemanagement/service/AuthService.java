@@ -1,10 +1,15 @@
 package com.leavemanagement.service;
 
+import com.leavemanagement.dto.AdminDTO;
 import com.leavemanagement.dto.AuthDTO;
+import com.leavemanagement.model.LeaveUnits;
 import com.leavemanagement.model.User;
 import com.leavemanagement.repository.UserRepository;
 import com.leavemanagement.security.JwtUtil;
+import com.leavemanagement.security.OperatorTenant;
+import com.leavemanagement.security.TenantContext;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -12,9 +17,13 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @Service
 public class AuthService {
@@ -34,35 +43,35 @@ public class AuthService {
     @Autowired
     private UserDetailsService userDetailsService;
     
+    @Autowired
+    private OrgHierarchyService orgHierarchyService;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @Autowired
+    private OperatorTenant operatorTenant;
+    
+    @Autowired
+    private LeaveEntitlementPolicy leaveEntitlementPolicy;
+    
+    // The tenant is never taken from the request: the caller's own tenant when a token is sent, else default.
+    // Self sign-up cannot grant ADMIN; admins are created through /api/admin/users
     @Transactional
     public AuthDTO.AuthResponse register(AuthDTO.RegisterRequest request) {
-        if (userRepository.existsByUsername(request.getUsername())) {
-            throw new RuntimeException("Username already exists");
+        if (request.getRoles() != null && request.getRoles().contains("ADMIN")) {
+            throw new RuntimeException("The ADMIN role cannot be self-assigned");
         }
         
-        if (userRepository.existsByEmail(request.getEmail())) {
-            throw new RuntimeException("Email already exists");
-        }
-        
-        User user = new User();
-        user.setUsername(request.getUsername());
-        user.setEmail(request.getEmail());
-        user.setPassword(passwordEncoder.encode(request.getPassword()));
-        user.setFullName(request.getFullName());
-        user.setDepartment(request.getDepartment());
-        
-        Set<String> roles = new HashSet<>();
-        if (request.getRoles() != null && !request.getRoles().isEmpty()) {
-            roles.addAll(request.getRoles());
-        } else {
-            roles.add("EMPLOYEE");
-        }
-        user.setRoles(roles);
-        
-        user = userRepository.save(user);
+        String tenantId = TenantContext.get() != null ? TenantContext.get() : TenantContext.DEFAULT_TENANT;
+        User user = createUser(request.getUsername(), request.getEmail(), request.getPassword(), request.getFullName(),
+            request.getDepartment(), request.getRoles(), tenantId);
         
         UserDetails userDetails = userDetailsService.loadUserByUsername(user.getUsername());
-        String token = jwtUtil.generateToken(userDetails);
+        String token = jwtUtil.generateToken(userDetails, user.getTenantId());
         
         return new AuthDTO.AuthResponse(
             token,
@@ -71,7 +80,8 @@ public class AuthService {
             user.getEmail(),
             user.getFullName(),
             user.getRoles(),
-            user.getLeaveBalance()
+            LeaveUnits.toDays(user.getLeaveBalanceMinutes()),
+            user.getTenantId()
         );
     }
     
@@ -82,11 +92,12 @@ public class AuthService {
         );
         
         UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-        String token = jwtUtil.generateToken(userDetails);
         
         User user = userRepository.findByUsername(request.getUsername())
             .orElseThrow(() -> new RuntimeException("User not found"));
         
+        String token = jwtUtil.generateToken(userDetails, user.getTenantId());
+        
         return new AuthDTO.AuthResponse(
             token,
             user.getId(),
@@ -94,7 +105,78 @@ public class AuthService {
             user.getEmail(),
             user.getFullName(),
             user.getRoles(),
-            user.getLeaveBalance()
+            LeaveUnits.toDays(user.getLeaveBalanceMinutes()),
+            user.getTenantId()
         );
     }
+    
+    public AuthDTO.MessageResponse createUserAsAdmin(AdminDTO.CreateUserRequest request) {
+        String adminTenant = TenantContext.get();
+        String tenantId = request.getTenantId() != null ? request.getTenantId() : adminTenant;
+        if (!tenantId.equals(adminTenant) && !operatorTenant.isCurrent()) {
+            throw new RuntimeException("Users can only be created in your own tenant");
+        }
+        
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        if (tenantId.equals(adminTenant)) {
+            User user = transactionTemplate.execute(status -> createUser(request.getUsername(), request.getEmail(),
+                request.getPassword(), request.getFullName(), request.getDepartment(), request.getRoles(), tenantId));
+            return new AuthDTO.MessageResponse("User " + user.getUsername() + " created in tenant " + tenantId);
+        }
+        
+        // The request's session is bound to the admin's tenant, so the user is created on another
+        // thread whose session belongs to the target tenant
+        try {
+            User user = CompletableFuture.supplyAsync(() -> {
+                TenantContext.set(tenantId);
+                try {
+                    return transactionTemplate.execute(status -> createUser(request.getUsername(), request.getEmail(),
+                        request.getPassword(), request.getFullName(), request.getDepartment(), request.getRoles(), tenantId));
+                } finally {
+                    TenantContext.clear();
+                }
+            }).join();
+            return new AuthDTO.MessageResponse("User " + user.getUsername() + " created in tenant " + tenantId);
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
+    }
+    
+    private User createUser(String username, String email, String password, String fullName, String department,
+                            Set<String> requestedRoles, String tenantId) {
+        // Usernames and emails are unique across tenants, so check without the tenant filter
+        if (countUsers("username", username) > 0) {
+            throw new RuntimeException("Username already exists");
+        }
+        
+        if (countUsers("email", email) > 0) {
+            throw new RuntimeException("Email already exists");
+        }
+        
+        User user = new User();
+        user.setUsername(username);
+        user.setEmail(email);
+        user.setPassword(passwordEncoder.encode(password));
+        user.setFullName(fullName);
+        user.setDepartment(department);
+        user.setTenantId(tenantId);
+        user.setLeaveBalanceMinutes(leaveEntitlementPolicy.getAnnualEntitlementMinutes());
+        
+        Set<String> roles = new HashSet<>();
+        if (requestedRoles != null && !requestedRoles.isEmpty()) {
+            roles.addAll(requestedRoles);
+        } else {
+            roles.add("EMPLOYEE");
+        }
+        user.setRoles(roles);
+        
+        user = userRepository.save(user);
+        orgHierarchyService.addUser(user);
+        return user;
+    }
+    
+    private long countUsers(String column, String value) {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users WHERE " + column + " = ?", Long.class, value);
+        return count != null ? count : 0;
+    }
 }
@@ -0,0 +1,136 @@
+package com.leavemanagement.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Moves closed leaves (approved, rejected or cancelled) that ended before the archive horizon
+ * from leaves into leaves_archive, one chunk per short transaction, so the hot table only holds
+ * open and recent leaves. LeaveArchiveQueries reads the archive back when a range needs it.
+ * Leaves of the current leave year are never archived, whatever the horizon, because the balance
+ * endpoint counts them from the hot table. One node archives at a time, holding a lease row.
+ */
+@Service
+public class LeaveArchivalService {
+
+    private static final Logger log = LoggerFactory.getLogger(LeaveArchivalService.class);
+
+    private static final String LEASE_NAME = "leave-archive";
+
+    private static final String COLUMNS =
+        "id, tenant_id, user_id, start_date, end_date, duration_minutes, portion, leave_type, reason, status, " +
+        "approved_by, manager_comments, approved_at, escalation_level, escalated_to, sla_notified_at, version, " +
+        "created_at, updated_at";
+
+    private static final String SELECT_CHUNK =
+        "SELECT id FROM leaves WHERE id > :afterId AND end_date < :cutoff " +
+        "AND status IN ('APPROVED', 'REJECTED', 'CANCELLED') ORDER BY id LIMIT :limit FOR UPDATE";
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private SchedulerLeaseManager schedulerLeaseManager;
+
+    // The lease is per node, so runs started on this node (schedule and admin endpoint) also exclude each other
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Value("${app.archive.horizon-days:365}")
+    private int horizonDays;
+
+    @Value("${app.archive.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${app.archive.lease-seconds:300}")
+    private long leaseSeconds;
+
+    @Scheduled(cron = "${app.archive.cron:0 30 2 * * *}")
+    public void scheduledArchive() {
+        archiveClosedLeaves();
+    }
+
+    // Returns the number of leaves archived, or -1 when another run holds the lease
+    public long archiveClosedLeaves() {
+        if (!running.compareAndSet(false, true)) {
+            return -1;
+        }
+        Duration lease = Duration.ofSeconds(leaseSeconds);
+        try {
+            if (!schedulerLeaseManager.tryAcquire(LEASE_NAME, lease)) {
+                log.debug("Archival skipped, another node holds the lease");
+                return -1;
+            }
+            try {
+                return archiveHoldingLease(lease);
+            } finally {
+                schedulerLeaseManager.release(LEASE_NAME);
+            }
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private long archiveHoldingLease(Duration lease) {
+        LocalDate cutoff = archiveCutoff(LocalDate.now());
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        long started = System.currentTimeMillis();
+        long archived = 0;
+        long afterId = 0;
+
+        while (true) {
+            long fromId = afterId;
+            List<Long> ids = transactionTemplate.execute(status -> {
+                MapSqlParameterSource params = new MapSqlParameterSource()
+                    .addValue("afterId", fromId)
+                    .addValue("cutoff", cutoff)
+                    .addValue("limit", chunkSize);
+                List<Long> chunk = jdbcTemplate.queryForList(SELECT_CHUNK, params, Long.class);
+                if (!chunk.isEmpty()) {
+                    MapSqlParameterSource idParams = new MapSqlParameterSource("ids", chunk);
+                    jdbcTemplate.update("INSERT INTO leaves_archive (" + COLUMNS + ") SELECT " + COLUMNS +
+                        " FROM leaves WHERE id IN (:ids)", idParams);
+                    jdbcTemplate.update("DELETE FROM leaves WHERE id IN (:ids)", idParams);
+                }
+                return chunk;
+            });
+
+            if (ids == null || ids.isEmpty()) {
+                break;
+            }
+            archived += ids.size();
+            afterId = ids.get(ids.size() - 1);
+            if (ids.size() < chunkSize) {
+                break;
+            }
+            if (!schedulerLeaseManager.renew(LEASE_NAME, lease)) {
+                log.warn("Archival lost its lease after {} leaves, stopping", archived);
+                break;
+            }
+        }
+
+        log.info("Archived {} closed leaves that ended before {} in {} ms", archived, cutoff, System.currentTimeMillis() - started);
+        return archived;
+    }
+
+    // The horizon, but never inside the current leave year (leave years are calendar years, see LeaveYearRolloverService)
+    LocalDate archiveCutoff(LocalDate today) {
+        LocalDate horizon = today.minusDays(horizonDays);
+        LocalDate yearStart = today.withDayOfYear(1);
+        return horizon.isBefore(yearStart) ? horizon : yearStart;
+    }
+}
@@ -0,0 +1,244 @@
+package com.leavemanagement.service;
+
+import com.leavemanagement.dto.LeaveDTO;
+import com.leavemanagement.model.Leave;
+import com.leavemanagement.model.Leave.LeaveStatus;
+import com.leavemanagement.model.LeaveAuditEntry;
+import com.leavemanagement.repository.LeaveAuditRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Append-only audit trail of leave state transitions. Entries are queued after the surrounding
+ * transaction commits and written in JDBC batches by a background thread, so auditing adds no
+ * database write to the request path. If the buffer is full the entry is written inline rather
+ * than dropped, and the buffer is flushed on shutdown. A batch that keeps failing for a reason
+ * other than the database being unreachable is written row by row, so one bad row cannot hold
+ * up the rest; rows that still fail are logged in full and skipped.
+ */
+@Service
+public class LeaveAuditService {
+
+    private static final Logger log = LoggerFactory.getLogger(LeaveAuditService.class);
+
+    private static final String INSERT_ENTRY =
+        "INSERT INTO leave_audit_log (tenant_id, leave_id, user_id, actor, action, old_status, new_status, balance_delta_minutes, occurred_at) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private LeaveAuditRepository leaveAuditRepository;
+
+    @Value("${app.audit.buffer-capacity:10000}")
+    private int bufferCapacity;
+
+    @Value("${app.audit.batch-size:500}")
+    private int batchSize;
+
+    // Failed attempts at a batch before it is written row by row; transient failures retry without limit
+    @Value("${app.audit.max-batch-attempts:3}")
+    private int maxBatchAttempts;
+
+    private BlockingQueue<Object[]> buffer;
+
+    private Thread writer;
+
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start() {
+        buffer = new ArrayBlockingQueue<>(bufferCapacity);
+        running = true;
+        writer = new Thread(this::writeLoop, "leave-audit-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        writer.interrupt();
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+        flushRemaining();
+    }
+
+    public void recordTransition(Leave leave, String actor, String action, LeaveStatus oldStatus, long balanceDeltaMinutes) {
+        Object[] entry = {
+            leave.getTenantId(),
+            leave.getId(),
+            leave.getUser().getId(),
+            actor,
+            action,
+            oldStatus != null ? oldStatus.name() : null,
+            leave.getStatus().name(),
+            balanceDeltaMinutes,
+            Timestamp.valueOf(LocalDateTime.now())
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(entry);
+                }
+            });
+        } else {
+            enqueue(entry);
+        }
+    }
+
+    // Reminders and escalations leave the status unchanged; they are recorded so the leave history shows them
+    public void recordSlaNotification(String tenantId, Long leaveId, Long userId, String action) {
+        enqueue(new Object[] {
+            tenantId, leaveId, userId, "system", action, LeaveStatus.PENDING.name(), LeaveStatus.PENDING.name(), 0L,
+            Timestamp.valueOf(LocalDateTime.now())
+        });
+    }
+
+    @Transactional(readOnly = true)
+    public List<LeaveDTO.LeaveAuditResponse> getLeaveHistory(Long leaveId) {
+        return leaveAuditRepository.findByLeaveIdOrderByIdAsc(leaveId).stream()
+            .map(this::mapToResponse)
+            .collect(Collectors.toList());
+    }
+
+    @Transactional(readOnly = true)
+    public List<LeaveDTO.LeaveAuditResponse> getUserHistory(Long userId, Long beforeId, int size) {
+        long before = beforeId != null ? beforeId : Long.MAX_VALUE;
+        return leaveAuditRepository
+            .findByUserIdAndIdLessThanOrderByIdDesc(userId, before, PageRequest.of(0, Math.min(Math.max(size, 1), 200)))
+            .stream()
+            .map(this::mapToResponse)
+            .collect(Collectors.toList());
+    }
+
+    private void enqueue(Object[] entry) {
+        if (!buffer.offer(entry)) {
+            log.warn("Audit buffer full, writing entry for leave {} inline", entry[1]);
+            jdbcTemplate.update(INSERT_ENTRY, entry);
+        }
+    }
+
+    private void writeLoop() {
+        List<Object[]> batch = new ArrayList<>(batchSize);
+        int attempts = 0;
+        while (running) {
+            try {
+                if (batch.isEmpty()) {
+                    Object[] first = buffer.poll(1, TimeUnit.SECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+                    buffer.drainTo(batch, batchSize - 1);
+                }
+                jdbcTemplate.batchUpdate(INSERT_ENTRY, batch);
+                batch.clear();
+                attempts = 0;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                attempts++;
+                if (!isTransient(e) && attempts >= maxBatchAttempts) {
+                    writeRowByRow(batch);
+                    attempts = 0;
+                    continue;
+                }
+                log.error("Writing {} audit entries failed, retrying: {}", batch.size(), e.getMessage());
+                try {
+                    Thread.sleep(1000);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+        writeBatch(batch);
+    }
+
+    // Writes what it can and leaves in the batch only the rows not yet tried when the database became
+    // unreachable; rows rejected for any other reason are logged with all their values and skipped
+    private void writeRowByRow(List<Object[]> batch) {
+        Iterator<Object[]> rows = batch.iterator();
+        while (rows.hasNext()) {
+            Object[] row = rows.next();
+            try {
+                jdbcTemplate.update(INSERT_ENTRY, row);
+            } catch (Exception e) {
+                if (isTransient(e)) {
+                    return;
+                }
+                log.error("Skipping audit entry that cannot be written {}: {}", Arrays.toString(row), e.getMessage());
+            }
+            rows.remove();
+        }
+    }
+
+    private static boolean isTransient(Exception e) {
+        return e instanceof TransientDataAccessException || e instanceof RecoverableDataAccessException
+            || e instanceof DataAccessResourceFailureException;
+    }
+
+    private void flushRemaining() {
+        List<Object[]> remaining = new ArrayList<>();
+        buffer.drainTo(remaining);
+        writeBatch(remaining);
+    }
+
+    private void writeBatch(List<Object[]> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            jdbcTemplate.batchUpdate(INSERT_ENTRY, batch);
+            batch.clear();
+        } catch (Exception e) {
+            if (!isTransient(e)) {
+                writeRowByRow(batch);
+            }
+            if (!batch.isEmpty()) {
+                log.error("Writing {} audit entries on shutdown failed: {}", batch.size(), e.getMessage());
+            }
+        }
+    }
+
+    private LeaveDTO.LeaveAuditResponse mapToResponse(LeaveAuditEntry entry) {
+        return new LeaveDTO.LeaveAuditResponse(
+            entry.getId(),
+            entry.getLeaveId(),
+            entry.getUserId(),
+            entry.getActor(),
+            entry.getAction(),
+            entry.getOldStatus(),
+            entry.getNewStatus(),
+            entry.getBalanceDeltaMinutes(),
+            entry.getOccurredAt()
+        );
+    }
+}
@@ -0,0 +1,110 @@
+package com.leavemanagement.service;
+
+import com.leavemanagement.model.Leave.LeaveType;
+import com.leavemanagement.model.LeaveUnits;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Yearly leave entitlements and carry-over caps, configured in days and applied in minutes (see
+ * LeaveUnits). Leave types listed in app.leave.type-entitlements have a balance of their own
+ * (leave_type_balances); every other type draws from the user's annual balance. New users are
+ * granted a full year; LeaveYearRolloverService pro-rates it when the year they joined closes.
+ */
+@Component
+public class LeaveEntitlementPolicy {
+
+    @Value("${app.leave.annual-entitlement:20.0}")
+    private String annualEntitlement;
+
+    @Value("${app.leave.carry-over-cap:5.0}")
+    private String carryOverCap;
+
+    @Value("${app.leave.type-entitlements:}")
+    private String typeEntitlements;
+
+    @Value("${app.leave.type-carry-over-caps:}")
+    private String typeCarryOverCaps;
+
+    private long annualEntitlementMinutes;
+
+    private long carryOverCapMinutes;
+
+    private Map<LeaveType, Long> typeEntitlementMinutes;
+
+    private Map<LeaveType, Long> typeCarryOverCapMinutes;
+
+    @PostConstruct
+    public void init() {
+        annualEntitlementMinutes = LeaveUnits.parseDays(annualEntitlement);
+        carryOverCapMinutes = LeaveUnits.parseDays(carryOverCap);
+        typeEntitlementMinutes = parseDaysPerType(typeEntitlements);
+        typeCarryOverCapMinutes = parseDaysPerType(typeCarryOverCaps);
+    }
+
+    public long getAnnualEntitlementMinutes() {
+        return annualEntitlementMinutes;
+    }
+
+    public long getCarryOverCapMinutes() {
+        return carryOverCapMinutes;
+    }
+
+    public boolean hasOwnBalance(LeaveType leaveType) {
+        return typeEntitlementMinutes.containsKey(leaveType);
+    }
+
+    public Set<LeaveType> getTypesWithOwnBalance() {
+        return typeEntitlementMinutes.keySet();
+    }
+
+    public long getEntitlementMinutes(LeaveType leaveType) {
+        return typeEntitlementMinutes.get(leaveType);
+    }
+
+    // Types without a configured cap carry nothing over
+    public long getCarryOverCapMinutes(LeaveType leaveType) {
+        return typeCarryOverCapMinutes.getOrDefault(leaveType, 0L);
+    }
+
+    /**
+     * Part of a balance carried into leaveYear: min(unused balance, cap). Users who joined during the
+     * closing year were granted a full year, so the share for the months before they joined is taken
+     * off first. Users created in leaveYear itself are not rolled at all (see LeaveYearRolloverService).
+     */
+    public long carryOverMinutes(long balance, LocalDate createdOn, int leaveYear, long entitlement, long cap) {
+        long unused = balance;
+        if (createdOn != null && createdOn.getYear() == leaveYear - 1) {
+            unused = Math.max(0, balance - (entitlement - proRatedEntitlement(createdOn, entitlement)));
+        }
+        return Math.min(unused, cap);
+    }
+
+    // Months of the year from the joining month on, rounded half up to half days
+    long proRatedEntitlement(LocalDate createdOn, long entitlement) {
+        long monthsWorked = 13 - createdOn.getMonthValue();
+        long perHalfDay = 12 * LeaveUnits.MINUTES_PER_HALF_DAY;
+        return (entitlement * monthsWorked + perHalfDay / 2) / perHalfDay * LeaveUnits.MINUTES_PER_HALF_DAY;
+    }
+
+    // Parses "SICK_LEAVE:10,CASUAL_LEAVE:2.5"
+    private static Map<LeaveType, Long> parseDaysPerType(String spec) {
+        Map<LeaveType, Long> days = new EnumMap<>(LeaveType.class);
+        if (spec == null || spec.isBlank()) {
+            return days;
+        }
+        for (String entry : spec.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid leave type entitlement: " + entry);
+            }
+            days.put(LeaveType.valueOf(parts[0].trim()), LeaveUnits.parseDays(parts[1]));
+        }
+        return days;
+    }
+}
@@ -0,0 +1,86 @@
+package com.leavemanagement.service;
+
+import com.leavemanagement.dto.AdminDTO;
+import com.leavemanagement.model.DepartmentLeavePolicy;
+import com.leavemanagement.model.LeaveBlackoutPeriod;
+import com.leavemanagement.repository.DepartmentLeavePolicyRepository;
+import com.leavemanagement.repository.LeaveBlackoutPeriodRepository;
+import com.leavemanagement.security.TenantContext;
+import com.leavemanagement.service.cache.CacheInvalidationBus;
+import com.leavemanagement.service.rules.DepartmentPolicyCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// Admin maintenance of the rule data read by the leave policy rules
+@Service
+public class LeavePolicyService {
+    
+    @Autowired
+    private LeaveBlackoutPeriodRepository leaveBlackoutPeriodRepository;
+    
+    @Autowired
+    private DepartmentLeavePolicyRepository departmentLeavePolicyRepository;
+    
+    @Autowired
+    private CacheInvalidationBus cacheInvalidationBus;
+    
+    @Transactional(readOnly = true)
+    public List<AdminDTO.BlackoutResponse> getUpcomingBlackouts() {
+        return leaveBlackoutPeriodRepository.findByEndDateGreaterThanEqualOrderByStartDate(LocalDate.now()).stream()
+            .map(this::mapToResponse)
+            .collect(Collectors.toList());
+    }
+    
+    @Transactional
+    public AdminDTO.BlackoutResponse addBlackout(AdminDTO.BlackoutRequest request) {
+        if (request.getEndDate().isBefore(request.getStartDate())) {
+            throw new RuntimeException("End date cannot be before start date");
+        }
+        
+        LeaveBlackoutPeriod blackout = new LeaveBlackoutPeriod();
+        blackout.setDepartment(request.getDepartment() != null && !request.getDepartment().isBlank()
+            ? request.getDepartment() : null);
+        blackout.setStartDate(request.getStartDate());
+        blackout.setEndDate(request.getEndDate());
+        blackout.setReason(request.getReason());
+        
+        blackout = leaveBlackoutPeriodRepository.save(blackout);
+        cacheInvalidationBus.invalidateAll(DepartmentPolicyCache.NAME);
+        return mapToResponse(blackout);
+    }
+    
+    @Transactional
+    public void deleteBlackout(Long id) {
+        LeaveBlackoutPeriod blackout = leaveBlackoutPeriodRepository.findById(id)
+            .filter(b -> TenantContext.get() == null || TenantContext.get().equals(b.getTenantId()))
+            .orElseThrow(() -> new RuntimeException("Blackout period not found"));
+        
+        leaveBlackoutPeriodRepository.delete(blackout);
+        cacheInvalidationBus.invalidateAll(DepartmentPolicyCache.NAME);
+    }
+    
+    @Transactional
+    public void setMinCoverage(String department, Integer minCoveragePercent) {
+        DepartmentLeavePolicy policy = departmentLeavePolicyRepository.findByDepartment(department)
+            .orElseGet(DepartmentLeavePolicy::new);
+        policy.setDepartment(department);
+        policy.setMinCoveragePercent(minCoveragePercent);
+        
+        departmentLeavePolicyRepository.save(policy);
+        cacheInvalidationBus.invalidateAll(DepartmentPolicyCache.NAME);
+    }
+    
+    private AdminDTO.BlackoutResponse mapToResponse(LeaveBlackoutPeriod blackout) {
+        return new AdminDTO.BlackoutResponse(
+            blackout.getId(),
+            blackout.getDepartment(),
+            blackout.getStartDate(),
+            blackout.getEndDate(),
+            blackout.getReason()
+        );
+    }
+}
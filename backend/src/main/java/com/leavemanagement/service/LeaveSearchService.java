@@ -0,0 +1,325 @@
+package com.leavemanagement.service;
+
+import com.leavemanagement.dto.LeaveDTO;
+import com.leavemanagement.model.Leave.DayPortion;
+import com.leavemanagement.model.Leave.LeaveStatus;
+import com.leavemanagement.model.Leave.LeaveType;
+import com.leavemanagement.model.LeaveUnits;
+import com.leavemanagement.model.User;
+import com.leavemanagement.repository.UserRepository;
+import com.leavemanagement.security.TenantContext;
+import com.leavemanagement.service.trace.RequestTrace;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * Manager search over leave reason/comments and employee name/email/department, backed by the
+ * FULLTEXT indexes from SearchIndexInitializer. Each facet is counted with every filter except its
+ * own, so the UI can show how many hits selecting another value would give. A text search resolves
+ * its FULLTEXT matches once, with the few columns the filters and facets need, and derives the count
+ * and facets from that set; only the requested page is then read in full. With
+ * app.approvals.scope-to-hierarchy, managers only find leaves they could approve, as in their
+ * pending queue.
+ */
+@Service
+public class LeaveSearchService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    // Shorter tokens are not indexed with MySQL's default innodb_ft_min_token_size
+    private static final int MIN_TOKEN_LENGTH = 3;
+
+    // Each word may come from either index, so every word gets its own hit set and the joins intersect them
+    private static final int MAX_TOKENS = 8;
+
+    private static final Set<String> FILTERS = Set.of("status", "leaveType", "department");
+
+    private static final String FROM = " FROM leaves l JOIN users u ON u.id = l.user_id";
+
+    // Same reach as LeaveRepository.findByStatusInSubtrees
+    private static final String IN_APPROVER_SCOPE =
+        "l.user_id <> :self AND (l.escalated_to IN (:approvers) OR EXISTS (SELECT 1 FROM user_hierarchy h " +
+        "WHERE h.descendant_id = l.user_id AND h.ancestor_id IN (:approvers) AND h.depth > 0))";
+
+    private static final String TOKEN_HITS =
+        " JOIN (SELECT id FROM leaves WHERE MATCH(reason, manager_comments) AGAINST (:q%1$d IN BOOLEAN MODE)" +
+        " UNION SELECT lv.id FROM leaves lv JOIN users us ON us.id = lv.user_id" +
+        " WHERE MATCH(us.full_name, us.email, us.department) AGAINST (:q%1$d IN BOOLEAN MODE)) hits%1$d ON hits%1$d.id = l.id";
+
+    private static final String SELECT_HITS =
+        "SELECT l.id, l.user_id, u.full_name, u.email, u.department, l.start_date, l.end_date, " +
+        "l.duration_minutes, l.portion, l.leave_type, l.reason, l.status, a.full_name AS approved_by_name, " +
+        "l.manager_comments, l.approved_at, l.escalation_level, l.created_at, l.updated_at";
+
+    private static final RowMapper<LeaveDTO.LeaveResponse> HIT_MAPPER = (rs, rowNum) -> {
+        LeaveDTO.LeaveResponse response = new LeaveDTO.LeaveResponse();
+        response.setId(rs.getLong("id"));
+        response.setUserId(rs.getLong("user_id"));
+        response.setUserName(rs.getString("full_name"));
+        response.setUserEmail(rs.getString("email"));
+        response.setDepartment(rs.getString("department"));
+        response.setStartDate(rs.getDate("start_date").toLocalDate());
+        response.setEndDate(rs.getDate("end_date").toLocalDate());
+        response.setDurationMinutes(rs.getLong("duration_minutes"));
+        response.setNumberOfDays(LeaveUnits.toDays(response.getDurationMinutes()));
+        response.setPortion(DayPortion.valueOf(rs.getString("portion")));
+        response.setLeaveType(LeaveType.valueOf(rs.getString("leave_type")));
+        response.setReason(rs.getString("reason"));
+        response.setStatus(LeaveStatus.valueOf(rs.getString("status")));
+        response.setApprovedByName(rs.getString("approved_by_name"));
+        response.setManagerComments(rs.getString("manager_comments"));
+        response.setApprovedAt(toLocalDateTime(rs.getTimestamp("approved_at")));
+        response.setEscalationLevel(rs.getInt("escalation_level"));
+        response.setCreatedAt(toLocalDateTime(rs.getTimestamp("created_at")));
+        response.setUpdatedAt(toLocalDateTime(rs.getTimestamp("updated_at")));
+        return response;
+    };
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ApprovalDelegationIndex approvalDelegationIndex;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.approvals.scope-to-hierarchy:false}")
+    private boolean scopeToHierarchy;
+
+    @Value("${app.search.max-matches:10000}")
+    private int maxMatches;
+
+    @Transactional(readOnly = true)
+    public LeaveDTO.LeaveSearchResponse search(String username, String query, LeaveStatus status, LeaveType leaveType,
+                                               String department, int page, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        int pageNumber = Math.max(page, 0);
+        List<String> terms = toPrefixTerms(query);
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        long traceStart = RequestTrace.startTimer();
+        try {
+            MapSqlParameterSource params = new MapSqlParameterSource();
+            // Native SQL bypasses Hibernate's tenant filter, so the tenant is applied here
+            if (TenantContext.get() != null) {
+                params.addValue("tenant", TenantContext.get());
+            }
+            if (scopeToHierarchy) {
+                User manager = userRepository.findByUsername(username)
+                    .orElseThrow(() -> new RuntimeException("Manager not found"));
+                params.addValue("self", manager.getId());
+                params.addValue("approvers", approvalDelegationIndex.approverScope(manager.getId()));
+            }
+            if (status != null) {
+                params.addValue("status", status.name());
+            }
+            if (leaveType != null) {
+                params.addValue("leaveType", leaveType.name());
+            }
+            if (department != null && !department.isBlank()) {
+                params.addValue("department", department);
+            }
+            params.addValue("limit", pageSize);
+            params.addValue("offset", (long) pageNumber * pageSize);
+
+            return terms.isEmpty()
+                ? searchByFilters(params, pageNumber, pageSize)
+                : searchMatches(params, terms, pageNumber, pageSize);
+        } finally {
+            RequestTrace.stopTimer(RequestTrace.SEARCH, traceStart);
+            sample.stop(meterRegistry.timer("leave.search",
+                "tenant", TenantContext.get() != null ? TenantContext.get() : "none",
+                "text", String.valueOf(!terms.isEmpty())));
+        }
+    }
+
+    // No words: every query runs on the plain indexes, so count and facets are left to the database
+    private LeaveDTO.LeaveSearchResponse searchByFilters(MapSqlParameterSource params, int pageNumber, int pageSize) {
+        String where = whereClause(params, Set.of());
+        List<LeaveDTO.LeaveResponse> hits = jdbcTemplate.query(
+            SELECT_HITS + FROM + " LEFT JOIN users a ON a.id = l.approved_by" + where +
+            " ORDER BY l.created_at DESC, l.id DESC LIMIT :limit OFFSET :offset",
+            params, HIT_MAPPER);
+
+        Long totalHits = jdbcTemplate.queryForObject("SELECT COUNT(*)" + FROM + where, params, Long.class);
+
+        Map<String, Map<String, Long>> facets = new LinkedHashMap<>();
+        facets.put("status", facet(params, "status", "l.status"));
+        facets.put("leaveType", facet(params, "leaveType", "l.leave_type"));
+        facets.put("department", facet(params, "department", "u.department"));
+
+        return new LeaveDTO.LeaveSearchResponse(hits, totalHits, pageNumber, pageSize, facets);
+    }
+
+    private Map<String, Long> facet(MapSqlParameterSource params, String facetName, String column) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        jdbcTemplate.query(
+            "SELECT " + column + " AS facet_value, COUNT(*) AS hits" + FROM + whereClause(params, Set.of(facetName)) +
+            " GROUP BY " + column + " ORDER BY hits DESC",
+            params, rs -> {
+                String value = rs.getString("facet_value");
+                counts.put(value != null ? value : "", rs.getLong("hits"));
+            });
+        return counts;
+    }
+
+    // The FULLTEXT intersection runs once: the match set carries what the filters and facets need,
+    // newest first, and only the page is read in full
+    private LeaveDTO.LeaveSearchResponse searchMatches(MapSqlParameterSource params, List<String> terms,
+                                                       int pageNumber, int pageSize) {
+        String from = FROM;
+        for (int i = 0; i < terms.size(); i++) {
+            from += String.format(TOKEN_HITS, i);
+            params.addValue("q" + i, terms.get(i));
+        }
+        params.addValue("maxMatches", maxMatches + 1);
+        List<Match> matches = jdbcTemplate.query(
+            "SELECT l.id, l.status, l.leave_type, u.department" + from + whereClause(params, FILTERS) +
+            " ORDER BY l.created_at DESC, l.id DESC LIMIT :maxMatches",
+            params, (rs, rowNum) -> new Match(rs.getLong("id"), rs.getString("status"), rs.getString("leave_type"),
+                rs.getString("department")));
+        if (matches.size() > maxMatches) {
+            throw new RuntimeException("The search matches more than " + maxMatches + " leaves, add words to narrow it down");
+        }
+
+        List<Long> filtered = new ArrayList<>();
+        for (Match match : matches) {
+            if (match.passes(params, null)) {
+                filtered.add(match.id);
+            }
+        }
+
+        Map<String, Map<String, Long>> facets = new LinkedHashMap<>();
+        facets.put("status", facet(matches, params, "status", match -> match.status));
+        facets.put("leaveType", facet(matches, params, "leaveType", match -> match.leaveType));
+        facets.put("department", facet(matches, params, "department", match -> match.department));
+
+        int fromIndex = (int) Math.min((long) pageNumber * pageSize, filtered.size());
+        List<Long> pageIds = filtered.subList(fromIndex, Math.min(fromIndex + pageSize, filtered.size()));
+        List<LeaveDTO.LeaveResponse> hits = new ArrayList<>();
+        if (!pageIds.isEmpty()) {
+            Map<Long, LeaveDTO.LeaveResponse> byId = new HashMap<>();
+            jdbcTemplate.query(SELECT_HITS + FROM + " LEFT JOIN users a ON a.id = l.approved_by WHERE l.id IN (:ids)",
+                new MapSqlParameterSource("ids", pageIds), HIT_MAPPER)
+                .forEach(hit -> byId.put(hit.getId(), hit));
+            for (Long id : pageIds) {
+                if (byId.containsKey(id)) {
+                    hits.add(byId.get(id));
+                }
+            }
+        }
+
+        return new LeaveDTO.LeaveSearchResponse(hits, (long) filtered.size(), pageNumber, pageSize, facets);
+    }
+
+    // Counts like GROUP BY under MySQL's case-insensitive collation, most hits first
+    private Map<String, Long> facet(List<Match> matches, MapSqlParameterSource params, String facetName,
+                                    Function<Match, String> value) {
+        Map<String, Long> counts = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (Match match : matches) {
+            if (match.passes(params, facetName)) {
+                String key = value.apply(match);
+                counts.merge(key != null ? key : "", 1L, Long::sum);
+            }
+        }
+        Map<String, Long> sorted = new LinkedHashMap<>();
+        counts.entrySet().stream()
+            .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+            .forEach(entry -> sorted.put(entry.getKey(), entry.getValue()));
+        return sorted;
+    }
+
+    private String whereClause(MapSqlParameterSource params, Set<String> excludedFilters) {
+        List<String> conditions = new ArrayList<>();
+        if (params.hasValue("tenant")) {
+            conditions.add("l.tenant_id = :tenant");
+        }
+        if (params.hasValue("approvers")) {
+            conditions.add(IN_APPROVER_SCOPE);
+        }
+        if (params.hasValue("status") && !excludedFilters.contains("status")) {
+            conditions.add("l.status = :status");
+        }
+        if (params.hasValue("leaveType") && !excludedFilters.contains("leaveType")) {
+            conditions.add("l.leave_type = :leaveType");
+        }
+        if (params.hasValue("department") && !excludedFilters.contains("department")) {
+            conditions.add("u.department = :department");
+        }
+        return conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+    }
+
+    // One prefix term per word; boolean-mode operators in user input are dropped. A query with no
+    // indexable word is rejected rather than silently returning unfiltered results
+    private List<String> toPrefixTerms(String query) {
+        List<String> terms = new ArrayList<>();
+        if (query == null || query.isBlank()) {
+            return terms;
+        }
+        for (String token : query.split("[^\\p{L}\\p{N}]+")) {
+            if (token.length() >= MIN_TOKEN_LENGTH) {
+                terms.add(token + "*");
+            }
+        }
+        if (terms.isEmpty()) {
+            throw new RuntimeException("Search words must be at least " + MIN_TOKEN_LENGTH + " characters long");
+        }
+        if (terms.size() > MAX_TOKENS) {
+            throw new RuntimeException("Search is limited to " + MAX_TOKENS + " words");
+        }
+        return terms;
+    }
+
+    private static class Match {
+        private final long id;
+        private final String status;
+        private final String leaveType;
+        private final String department;
+
+        private Match(long id, String status, String leaveType, String department) {
+            this.id = id;
+            this.status = status;
+            this.leaveType = leaveType;
+            this.department = department;
+        }
+
+        // The filters of the request except excludedFilter, as whereClause applies them
+        private boolean passes(MapSqlParameterSource params, String excludedFilter) {
+            if (params.hasValue("status") && !"status".equals(excludedFilter)
+                    && !params.getValue("status").equals(status)) {
+                return false;
+            }
+            if (params.hasValue("leaveType") && !"leaveType".equals(excludedFilter)
+                    && !params.getValue("leaveType").equals(leaveType)) {
+                return false;
+            }
+            return !params.hasValue("department") || "department".equals(excludedFilter)
+                || ((String) params.getValue("department")).equalsIgnoreCase(department);
+        }
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
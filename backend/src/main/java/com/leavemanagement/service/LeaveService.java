@@ -1,18 +1,28 @@
 package com.leavemanagement.service;
 
+import com.leavemanagement.config.ReadYourWritesTracker;
 import com.leavemanagement.dto.LeaveDTO;
 import com.leavemanagement.model.Leave;
+import com.leavemanagement.model.Leave.DayPortion;
 import com.leavemanagement.model.Leave.LeaveStatus;
+import com.leavemanagement.model.Leave.LeaveType;
+import com.leavemanagement.model.LeaveTypeBalance;
+import com.leavemanagement.model.LeaveUnits;
 import com.leavemanagement.model.User;
 import com.leavemanagement.repository.LeaveRepository;
 import com.leavemanagement.repository.UserRepository;
+import com.leavemanagement.service.rules.LeavePolicyEngine;
+import com.leavemanagement.service.trace.RequestTrace;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -24,85 +34,135 @@ public class LeaveService {
     @Autowired
     private UserRepository userRepository;
     
+    @Autowired
+    private ReadYourWritesTracker readYourWritesTracker;
+    
+    @Autowired
+    private LeaveAuditService leaveAuditService;
+    
+    @Autowired
+    private LeavePolicyEngine leavePolicyEngine;
+    
+    @Autowired
+    private ApprovalDelegationIndex approvalDelegationIndex;
+    
+    @Autowired
+    private LeaveEntitlementPolicy leaveEntitlementPolicy;
+    
+    @Autowired
+    private LeaveTypeBalanceService leaveTypeBalanceService;
+    
+    @Value("${app.approvals.scope-to-hierarchy:false}")
+    private boolean scopeToHierarchy;
+    
     @Transactional
     public LeaveDTO.LeaveResponse applyLeave(String username, LeaveDTO.LeaveRequest request) {
         User user = userRepository.findByUsername(username)
             .orElseThrow(() -> new RuntimeException("User not found"));
         
-        // Validate dates
-        if (request.getStartDate().isBefore(LocalDate.now())) {
-            throw new RuntimeException("Start date cannot be in the past");
-        }
+        DayPortion portion = request.getPortion() != null ? request.getPortion() : DayPortion.FULL_DAY;
+        int hours = request.getHours() != null ? request.getHours() : 0;
         
-        if (request.getEndDate().isBefore(request.getStartDate())) {
-            throw new RuntimeException("End date cannot be before start date");
-        }
-        
-        // Calculate number of days
-        int numberOfDays = (int) ChronoUnit.DAYS.between(request.getStartDate(), request.getEndDate()) + 1;
-        
-        // Check for overlapping leaves
-        List<Leave> overlapping = leaveRepository.findOverlappingLeaves(
-            user.getId(), request.getStartDate(), request.getEndDate()
-        );
-        
-        if (!overlapping.isEmpty()) {
-            throw new RuntimeException("You already have a leave request for these dates");
-        }
-        
-        // Check leave balance
-        if (user.getLeaveBalance() < numberOfDays) {
-            throw new RuntimeException("Insufficient leave balance. Available: " + user.getLeaveBalance() + " days");
-        }
+        // Dates, day portion, per-type limits, notice, balance, blackouts, overlap and team coverage
+        leavePolicyEngine.validate(user, request.getStartDate(), request.getEndDate(), request.getLeaveType(), portion, hours);
         
         Leave leave = new Leave();
         leave.setUser(user);
         leave.setStartDate(request.getStartDate());
         leave.setEndDate(request.getEndDate());
-        leave.setNumberOfDays(numberOfDays);
+        leave.setPortion(portion);
+        leave.setDurationMinutes(LeaveUnits.durationMinutes(request.getStartDate(), request.getEndDate(), portion, hours));
         leave.setLeaveType(request.getLeaveType());
         leave.setReason(request.getReason());
         leave.setStatus(LeaveStatus.PENDING);
         
         leave = leaveRepository.save(leave);
+        leaveAuditService.recordTransition(leave, username, "APPLY", null, 0);
+        readYourWritesTracker.recordWrite(username);
         
         return mapToResponse(leave);
     }
     
+    @Transactional(readOnly = true)
     public List<LeaveDTO.LeaveResponse> getMyLeaves(String username) {
         User user = userRepository.findByUsername(username)
             .orElseThrow(() -> new RuntimeException("User not found"));
         
-        return leaveRepository.findByUserOrderByCreatedAtDesc(user).stream()
+        return leaveRepository.findByUserIncludingArchive(user.getId()).stream()
             .map(this::mapToResponse)
             .collect(Collectors.toList());
     }
     
-    public List<LeaveDTO.LeaveResponse> getAllLeaves() {
-        return leaveRepository.findAllByOrderByCreatedAtDesc().stream()
+    // from/to narrow the result to leaves overlapping that range; the archive is only read when from reaches into it
+    @Transactional(readOnly = true)
+    public List<LeaveDTO.LeaveResponse> getAllLeaves(LocalDate from, LocalDate to) {
+        return leaveRepository.findInRangeIncludingArchive(from, to).stream()
             .map(this::mapToResponse)
             .collect(Collectors.toList());
     }
     
-    public List<LeaveDTO.LeaveResponse> getPendingLeaves() {
-        return leaveRepository.findByStatus(LeaveStatus.PENDING).stream()
+    @Transactional(readOnly = true)
+    public List<LeaveDTO.LeaveResponse> getPendingLeaves(String managerUsername) {
+        List<Leave> pending;
+        if (scopeToHierarchy) {
+            User manager = userRepository.findByUsername(managerUsername)
+                .orElseThrow(() -> new RuntimeException("Manager not found"));
+            pending = leaveRepository.findByStatusInSubtrees(
+                approvalDelegationIndex.approverScope(manager.getId()), manager.getId(), LeaveStatus.PENDING);
+        } else {
+            pending = leaveRepository.findByStatus(LeaveStatus.PENDING);
+        }
+        
+        return pending.stream()
             .map(this::mapToResponse)
             .collect(Collectors.toList());
     }
     
+    @Transactional(readOnly = true)
+    public List<LeaveDTO.LeaveSummary> getMyLeaveSummaries(String username) {
+        User user = userRepository.findByUsername(username)
+            .orElseThrow(() -> new RuntimeException("User not found"));
+        
+        return toSummaries(leaveRepository.findByUserIncludingArchive(user.getId()));
+    }
+    
+    @Transactional(readOnly = true)
+    public List<LeaveDTO.LeaveSummary> getAllLeaveSummaries(LocalDate from, LocalDate to) {
+        return toSummaries(leaveRepository.findInRangeIncludingArchive(from, to));
+    }
+    
+    @Transactional(readOnly = true)
+    public List<LeaveDTO.LeaveSummary> getPendingLeaveSummaries(String managerUsername) {
+        if (!scopeToHierarchy) {
+            return toSummaries(leaveRepository.findByStatus(LeaveStatus.PENDING));
+        }
+        User manager = userRepository.findByUsername(managerUsername)
+            .orElseThrow(() -> new RuntimeException("Manager not found"));
+        return toSummaries(leaveRepository.findByStatusInSubtrees(
+            approvalDelegationIndex.approverScope(manager.getId()), manager.getId(), LeaveStatus.PENDING));
+    }
+    
     @Transactional
     public LeaveDTO.LeaveResponse approveOrRejectLeave(String managerUsername, Long leaveId, 
                                                         LeaveDTO.LeaveApprovalRequest request) {
         User manager = userRepository.findByUsername(managerUsername)
             .orElseThrow(() -> new RuntimeException("Manager not found"));
         
-        Leave leave = leaveRepository.findById(leaveId)
+        // With scoping, the manager acts for their own reporting line and those delegated to them today
+        Leave leave = (scopeToHierarchy
+                ? leaveRepository.findByIdInSubtrees(leaveId, approvalDelegationIndex.approverScope(manager.getId()), manager.getId())
+                : leaveRepository.findById(leaveId))
+            // Loads by id are not tenant-filtered, so a leave from another tenant is treated as missing
+            .filter(l -> l.getTenantId().equals(manager.getTenantId()))
             .orElseThrow(() -> new RuntimeException("Leave request not found"));
         
         if (leave.getStatus() != LeaveStatus.PENDING) {
             throw new RuntimeException("Leave request is already processed");
         }
         
+        LeaveStatus oldStatus = leave.getStatus();
+        long balanceDelta = 0;
+        
         leave.setStatus(request.getStatus());
         leave.setApprovedBy(manager);
         leave.setManagerComments(request.getManagerComments());
@@ -110,12 +170,14 @@ public class LeaveService {
         
         // Update user leave balance if approved
         if (request.getStatus() == LeaveStatus.APPROVED) {
-            User user = leave.getUser();
-            user.setLeaveBalance(user.getLeaveBalance() - leave.getNumberOfDays());
-            userRepository.save(user);
+            balanceDelta = -leave.getDurationMinutes();
+            adjustBalance(leave.getUser(), leave.getLeaveType(), balanceDelta);
         }
         
         leave = leaveRepository.save(leave);
+        leaveAuditService.recordTransition(leave, managerUsername, request.getStatus().name(), oldStatus, balanceDelta);
+        readYourWritesTracker.recordWrite(managerUsername);
+        readYourWritesTracker.recordWrite(leave.getUser().getUsername());
         
         return mapToResponse(leave);
     }
@@ -132,36 +194,105 @@ public class LeaveService {
             throw new RuntimeException("You can only cancel your own leave requests");
         }
         
+        LeaveStatus oldStatus = leave.getStatus();
+        long balanceDelta = 0;
+        
         if (leave.getStatus() == LeaveStatus.APPROVED) {
             // Restore leave balance
-            user.setLeaveBalance(user.getLeaveBalance() + leave.getNumberOfDays());
-            userRepository.save(user);
+            balanceDelta = leave.getDurationMinutes();
+            adjustBalance(user, leave.getLeaveType(), balanceDelta);
         }
         
         leave.setStatus(LeaveStatus.CANCELLED);
         leaveRepository.save(leave);
+        leaveAuditService.recordTransition(leave, username, "CANCEL", oldStatus, balanceDelta);
+        readYourWritesTracker.recordWrite(username);
     }
     
+    // Leave types with their own entitlement have their own balance; all others share the annual one
+    private void adjustBalance(User user, LeaveType leaveType, long deltaMinutes) {
+        if (leaveEntitlementPolicy.hasOwnBalance(leaveType)) {
+            leaveTypeBalanceService.adjust(user, leaveType, deltaMinutes);
+        } else {
+            user.setLeaveBalanceMinutes(user.getLeaveBalanceMinutes() + deltaMinutes);
+            userRepository.save(user);
+        }
+    }
+    
+    @Transactional(readOnly = true)
     public LeaveDTO.LeaveBalanceResponse getLeaveBalance(String username) {
         User user = userRepository.findByUsername(username)
             .orElseThrow(() -> new RuntimeException("User not found"));
         
-        List<Leave> approvedLeaves = leaveRepository.findByUserIdAndStatus(user.getId(), LeaveStatus.APPROVED);
-        double usedLeave = approvedLeaves.stream()
-            .mapToDouble(Leave::getNumberOfDays)
-            .sum();
+        // Leave taken this leave year; the hot table holds all of it, since archival stops at the year start
+        Map<LeaveType, Long> usedByType = new EnumMap<>(LeaveType.class);
+        LocalDate yearStart = LocalDate.now().withDayOfYear(1);
+        for (Leave leave : leaveRepository.findByUserIdAndStatusAndStartDateGreaterThanEqual(
+                user.getId(), LeaveStatus.APPROVED, yearStart)) {
+            usedByType.merge(leave.getLeaveType(), leave.getDurationMinutes(), Long::sum);
+        }
+        
+        long usedMinutes = 0;
+        for (Map.Entry<LeaveType, Long> used : usedByType.entrySet()) {
+            if (!leaveEntitlementPolicy.hasOwnBalance(used.getKey())) {
+                usedMinutes += used.getValue();
+            }
+        }
+        
+        List<LeaveDTO.LeaveTypeBalanceResponse> typeBalances = new ArrayList<>();
+        for (LeaveTypeBalance balance : leaveTypeBalanceService.getBalances(user).values()) {
+            long typeTotal = leaveEntitlementPolicy.getEntitlementMinutes(balance.getLeaveType()) + balance.getCarriedOverMinutes();
+            long typeUsed = usedByType.getOrDefault(balance.getLeaveType(), 0L);
+            typeBalances.add(new LeaveDTO.LeaveTypeBalanceResponse(balance.getLeaveType(),
+                LeaveUnits.toDays(typeTotal), LeaveUnits.toDays(typeUsed), LeaveUnits.toDays(balance.getBalanceMinutes()),
+                typeTotal, typeUsed, balance.getBalanceMinutes()));
+        }
         
         long pendingRequests = leaveRepository.findByUserIdAndStatus(user.getId(), LeaveStatus.PENDING).size();
         
+        // The year's grant plus what the last rollover carried over, as LeaveYearRolloverService set the balance
+        long totalMinutes = leaveEntitlementPolicy.getAnnualEntitlementMinutes() + user.getCarriedOverMinutes();
         return new LeaveDTO.LeaveBalanceResponse(
-            20.0, // Total annual leave
-            usedLeave,
-            user.getLeaveBalance(),
-            pendingRequests
+            LeaveUnits.toDays(totalMinutes),
+            LeaveUnits.toDays(usedMinutes),
+            LeaveUnits.toDays(user.getLeaveBalanceMinutes()),
+            pendingRequests,
+            totalMinutes,
+            usedMinutes,
+            user.getLeaveBalanceMinutes(),
+            typeBalances
         );
     }
     
+    private List<LeaveDTO.LeaveSummary> toSummaries(List<Leave> leaves) {
+        List<LeaveDTO.LeaveSummary> summaries = new ArrayList<>(leaves.size());
+        for (Leave leave : leaves) {
+            User user = leave.getUser();
+            summaries.add(new LeaveDTO.LeaveSummary(
+                leave.getId(),
+                user.getFullName(),
+                user.getDepartment(),
+                leave.getStartDate(),
+                leave.getEndDate(),
+                leave.getDurationMinutes(),
+                leave.getLeaveType(),
+                leave.getStatus()
+            ));
+        }
+        return summaries;
+    }
+    
+    // Timed on its own in the request trace: the user and approver are lazy-loaded here
     private LeaveDTO.LeaveResponse mapToResponse(Leave leave) {
+        long traceStart = RequestTrace.startTimer();
+        try {
+            return buildResponse(leave);
+        } finally {
+            RequestTrace.stopTimer(RequestTrace.MAP_TO_RESPONSE, traceStart);
+        }
+    }
+    
+    private LeaveDTO.LeaveResponse buildResponse(Leave leave) {
         LeaveDTO.LeaveResponse response = new LeaveDTO.LeaveResponse();
         response.setId(leave.getId());
         response.setUserId(leave.getUser().getId());
@@ -170,12 +301,15 @@ public class LeaveService {
         response.setDepartment(leave.getUser().getDepartment());
         response.setStartDate(leave.getStartDate());
         response.setEndDate(leave.getEndDate());
-        response.setNumberOfDays(leave.getNumberOfDays());
+        response.setNumberOfDays(LeaveUnits.toDays(leave.getDurationMinutes()));
+        response.setDurationMinutes(leave.getDurationMinutes());
+        response.setPortion(leave.getPortion());
         response.setLeaveType(leave.getLeaveType());
         response.setReason(leave.getReason());
         response.setStatus(leave.getStatus());
         response.setManagerComments(leave.getManagerComments());
         response.setApprovedAt(leave.getApprovedAt());
+        response.setEscalationLevel(leave.getEscalationLevel());
         response.setCreatedAt(leave.getCreatedAt());
         response.setUpdatedAt(leave.getUpdatedAt());
         
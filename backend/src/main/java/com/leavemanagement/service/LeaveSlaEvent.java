@@ -0,0 +1,30 @@
+package com.leavemanagement.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published by LeaveSlaScanner for each reminder or escalation about a pending leave.
+ * ApproverNotificationService puts it in the approvers' inbox; mail, chat or push notifiers can
+ * subscribe with an @EventListener too. approverId is the manager the SLA step targets and
+ * delegateId the manager covering their approvals today, if any.
+ */
+@Getter
+@AllArgsConstructor
+public class LeaveSlaEvent {
+    
+    public enum Type {
+        REMINDER,
+        ESCALATION
+    }
+    
+    private final Type type;
+    private final String tenantId;
+    private final Long leaveId;
+    private final Long employeeId;
+    private final Long approverId;
+    private final Long delegateId;
+    // 0 while the leave sits with the direct manager, n once escalated n levels up
+    private final int escalationLevel;
+    private final long pendingHours;
+}
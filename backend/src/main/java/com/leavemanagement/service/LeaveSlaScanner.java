@@ -0,0 +1,255 @@
+package com.leavemanagement.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Finds pending leaves past their SLA and nudges the approver. A leave pending for
+ * app.leave.sla.remind-after-hours gets a reminder to whoever it currently sits with, repeated at
+ * that interval; every app.leave.sla.escalate-after-hours it moves one level up the reporting line,
+ * until it reaches the top. Pending leaves are read by keyset chunks over the (status, created_at)
+ * index, with only the columns the decision needs. One node scans at a time, holding a lease row.
+ */
+@Service
+public class LeaveSlaScanner {
+
+    private static final Logger log = LoggerFactory.getLogger(LeaveSlaScanner.class);
+
+    private static final String LEASE_NAME = "leave-sla-scan";
+
+    // Keyset on (created_at, id); the range condition on created_at keeps the scan on the index
+    private static final String SELECT_CHUNK =
+        "SELECT id, tenant_id, user_id, created_at, escalation_level, sla_notified_at FROM leaves " +
+        "WHERE status = 'PENDING' AND created_at >= :afterCreated AND created_at <= :cutoff " +
+        "AND (created_at > :afterCreated OR id > :afterId) ORDER BY created_at, id LIMIT :limit";
+
+    private static final String SELECT_APPROVERS =
+        "SELECT descendant_id, ancestor_id FROM user_hierarchy WHERE descendant_id IN (:userIds) AND depth > 0 " +
+        "ORDER BY descendant_id, depth";
+
+    // Leaves the version alone: a background reminder must not make a concurrent approval fail.
+    // escalated_to lets the escalation target approve (see LeaveRepository.findByIdInSubtrees)
+    private static final String UPDATE_LEAVE =
+        "UPDATE leaves SET escalation_level = :level, escalated_to = :escalatedTo, sla_notified_at = :notifiedAt " +
+        "WHERE id = :id AND status = 'PENDING'";
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SchedulerLeaseManager schedulerLeaseManager;
+
+    @Autowired
+    private ApprovalDelegationIndex approvalDelegationIndex;
+
+    @Autowired
+    private LeaveAuditService leaveAuditService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // The lease is per node, so scans started on this node (schedule and admin endpoint) also exclude each other
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Value("${app.leave.sla.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.leave.sla.remind-after-hours:48}")
+    private long remindAfterHours;
+
+    @Value("${app.leave.sla.escalate-after-hours:120}")
+    private long escalateAfterHours;
+
+    @Value("${app.leave.sla.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${app.leave.sla.lease-seconds:300}")
+    private long leaseSeconds;
+
+    @Scheduled(cron = "${app.leave.sla.cron:0 */15 * * * *}")
+    public void scheduledScan() {
+        if (enabled) {
+            scan();
+        }
+    }
+
+    // Returns the number of reminders and escalations raised, or -1 when a scan is already running
+    public long scan() {
+        if (!running.compareAndSet(false, true)) {
+            return -1;
+        }
+        try {
+            return scanHoldingLease();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private long scanHoldingLease() {
+        Duration lease = Duration.ofSeconds(leaseSeconds);
+        if (!schedulerLeaseManager.tryAcquire(LEASE_NAME, lease)) {
+            log.debug("SLA scan skipped, another node holds the lease");
+            return -1;
+        }
+
+        long started = System.currentTimeMillis();
+        long scanned = 0;
+        long notified = 0;
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            Timestamp cutoff = Timestamp.valueOf(now.minusHours(Math.min(remindAfterHours, escalateAfterHours)));
+            Timestamp afterCreated = Timestamp.valueOf(LocalDateTime.of(1970, 1, 1, 0, 0));
+            long afterId = 0;
+
+            while (true) {
+                MapSqlParameterSource params = new MapSqlParameterSource()
+                    .addValue("afterCreated", afterCreated)
+                    .addValue("afterId", afterId)
+                    .addValue("cutoff", cutoff)
+                    .addValue("limit", chunkSize);
+                List<PendingLeave> chunk = jdbcTemplate.query(SELECT_CHUNK, params, (rs, rowNum) -> new PendingLeave(
+                    rs.getLong("id"), rs.getString("tenant_id"), rs.getLong("user_id"),
+                    rs.getTimestamp("created_at").toLocalDateTime(), rs.getInt("escalation_level"),
+                    rs.getTimestamp("sla_notified_at") != null ? rs.getTimestamp("sla_notified_at").toLocalDateTime() : null));
+                if (chunk.isEmpty()) {
+                    break;
+                }
+
+                scanned += chunk.size();
+                notified += processChunk(chunk, now);
+                PendingLeave last = chunk.get(chunk.size() - 1);
+                afterCreated = Timestamp.valueOf(last.createdAt);
+                afterId = last.id;
+
+                if (chunk.size() < chunkSize) {
+                    break;
+                }
+                if (!schedulerLeaseManager.renew(LEASE_NAME, lease)) {
+                    log.warn("SLA scan lost its lease after {} leaves, stopping", scanned);
+                    break;
+                }
+            }
+        } finally {
+            schedulerLeaseManager.release(LEASE_NAME);
+        }
+
+        log.info("SLA scan checked {} stale pending leaves and raised {} reminders or escalations in {} ms",
+            scanned, notified, System.currentTimeMillis() - started);
+        return notified;
+    }
+
+    private int processChunk(List<PendingLeave> chunk, LocalDateTime now) {
+        Map<Long, List<Long>> approvers = approverChains(chunk);
+        List<MapSqlParameterSource> updates = new ArrayList<>();
+        List<LeaveSlaEvent> events = new ArrayList<>();
+
+        for (PendingLeave leave : chunk) {
+            // chain.get(0) is the direct manager, chain.get(n) the approver n levels above them
+            List<Long> chain = approvers.get(leave.userId);
+            if (chain == null) {
+                continue;
+            }
+            long pendingHours = Duration.between(leave.createdAt, now).toHours();
+            int dueLevel = escalateAfterHours > 0 ? (int) Math.min(pendingHours / escalateAfterHours, chain.size() - 1) : 0;
+
+            LeaveSlaEvent.Type type;
+            int level = leave.escalationLevel;
+            if (dueLevel > level) {
+                type = LeaveSlaEvent.Type.ESCALATION;
+                level = dueLevel;
+            } else if (pendingHours >= remindAfterHours
+                    && (leave.slaNotifiedAt == null || Duration.between(leave.slaNotifiedAt, now).toHours() >= remindAfterHours)) {
+                type = LeaveSlaEvent.Type.REMINDER;
+            } else {
+                continue;
+            }
+
+            // Approvers whose reporting line changed since the last escalation fall back to the top of the chain
+            Long approverId = chain.get(Math.min(level, chain.size() - 1));
+            updates.add(new MapSqlParameterSource()
+                .addValue("level", level)
+                .addValue("escalatedTo", level > 0 ? approverId : null, Types.BIGINT)
+                .addValue("notifiedAt", Timestamp.valueOf(now))
+                .addValue("id", leave.id));
+            events.add(new LeaveSlaEvent(type, leave.tenantId, leave.id, leave.userId, approverId,
+                approvalDelegationIndex.activeDelegate(approverId), level, pendingHours));
+        }
+
+        if (updates.isEmpty()) {
+            return 0;
+        }
+        int[] updated = jdbcTemplate.batchUpdate(UPDATE_LEAVE, updates.toArray(new MapSqlParameterSource[0]));
+        int raised = 0;
+        for (int i = 0; i < events.size(); i++) {
+            // A leave decided since it was read is left alone
+            if (updated[i] == 0) {
+                continue;
+            }
+            LeaveSlaEvent event = events.get(i);
+            String action = event.getType() == LeaveSlaEvent.Type.ESCALATION ? "SLA_ESCALATION" : "SLA_REMINDER";
+            leaveAuditService.recordSlaNotification(event.getTenantId(), event.getLeaveId(), event.getEmployeeId(), action);
+            meterRegistry.counter("leave.sla.notifications", "tenant", event.getTenantId(),
+                "type", event.getType().name()).increment();
+            log.info("{} for leave {} pending {} h: approver {}{}", event.getType(), event.getLeaveId(),
+                event.getPendingHours(), event.getApproverId(),
+                event.getDelegateId() != null ? " (covered by " + event.getDelegateId() + ")" : "");
+            eventPublisher.publishEvent(event);
+            raised++;
+        }
+        return raised;
+    }
+
+    // Reporting lines of the chunk's employees, nearest manager first, in one query
+    private Map<Long, List<Long>> approverChains(List<PendingLeave> chunk) {
+        Set<Long> userIds = new HashSet<>();
+        for (PendingLeave leave : chunk) {
+            userIds.add(leave.userId);
+        }
+        Map<Long, List<Long>> chains = new HashMap<>();
+        jdbcTemplate.query(SELECT_APPROVERS, new MapSqlParameterSource("userIds", userIds), rs -> {
+            chains.computeIfAbsent(rs.getLong("descendant_id"), id -> new ArrayList<>()).add(rs.getLong("ancestor_id"));
+        });
+        return chains;
+    }
+
+    private static class PendingLeave {
+        private final long id;
+        private final String tenantId;
+        private final long userId;
+        private final LocalDateTime createdAt;
+        private final int escalationLevel;
+        private final LocalDateTime slaNotifiedAt;
+
+        private PendingLeave(long id, String tenantId, long userId, LocalDateTime createdAt,
+                             int escalationLevel, LocalDateTime slaNotifiedAt) {
+            this.id = id;
+            this.tenantId = tenantId;
+            this.userId = userId;
+            this.createdAt = createdAt;
+            this.escalationLevel = escalationLevel;
+            this.slaNotifiedAt = slaNotifiedAt;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.leavemanagement.service;
+
+import com.leavemanagement.model.Leave.LeaveType;
+import com.leavemanagement.model.LeaveTypeBalance;
+import com.leavemanagement.model.User;
+import com.leavemanagement.repository.LeaveTypeBalanceRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import java.util.EnumMap;
+import java.util.Map;
+
+// Balances of the leave types that have their own entitlement; rows are created on first use
+@Service
+public class LeaveTypeBalanceService {
+    
+    @Autowired
+    private LeaveTypeBalanceRepository leaveTypeBalanceRepository;
+    
+    @Autowired
+    private LeaveEntitlementPolicy leaveEntitlementPolicy;
+    
+    public long getRemainingMinutes(User user, LeaveType leaveType) {
+        return leaveTypeBalanceRepository.findByUserIdAndLeaveType(user.getId(), leaveType)
+            .map(LeaveTypeBalance::getBalanceMinutes)
+            .orElse(leaveEntitlementPolicy.getEntitlementMinutes(leaveType));
+    }
+    
+    // Runs in the caller's transaction; the row version makes concurrent changes fail instead of overwriting
+    public void adjust(User user, LeaveType leaveType, long deltaMinutes) {
+        LeaveTypeBalance balance = leaveTypeBalanceRepository.findByUserIdAndLeaveType(user.getId(), leaveType)
+            .orElseGet(() -> newBalance(user, leaveType));
+        balance.setBalanceMinutes(balance.getBalanceMinutes() + deltaMinutes);
+        leaveTypeBalanceRepository.save(balance);
+    }
+    
+    // Every type with its own entitlement, including those the user has not used yet
+    public Map<LeaveType, LeaveTypeBalance> getBalances(User user) {
+        Map<LeaveType, LeaveTypeBalance> balances = new EnumMap<>(LeaveType.class);
+        for (LeaveTypeBalance balance : leaveTypeBalanceRepository.findByUserId(user.getId())) {
+            if (leaveEntitlementPolicy.hasOwnBalance(balance.getLeaveType())) {
+                balances.put(balance.getLeaveType(), balance);
+            }
+        }
+        for (LeaveType leaveType : leaveEntitlementPolicy.getTypesWithOwnBalance()) {
+            balances.computeIfAbsent(leaveType, type -> newBalance(user, type));
+        }
+        return balances;
+    }
+    
+    private LeaveTypeBalance newBalance(User user, LeaveType leaveType) {
+        LeaveTypeBalance balance = new LeaveTypeBalance();
+        balance.setTenantId(user.getTenantId());
+        balance.setUserId(user.getId());
+        balance.setLeaveType(leaveType);
+        balance.setBalanceMinutes(leaveEntitlementPolicy.getEntitlementMinutes(leaveType));
+        return balance;
+    }
+}
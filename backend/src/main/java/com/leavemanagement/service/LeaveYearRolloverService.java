@@ -0,0 +1,314 @@
+package com.leavemanagement.service;
+
+import com.leavemanagement.dto.AdminDTO;
+import com.leavemanagement.model.Leave.LeaveType;
+import com.leavemanagement.model.LeaveYearCheckpoint;
+import com.leavemanagement.repository.LeaveYearCheckpointRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Yearly leave balance rollover: new balance = min(unused balance, carry-over cap) + entitlement,
+ * for the annual balance and for each leave type with its own entitlement (see LeaveEntitlementPolicy,
+ * which also pro-rates the closing year for users who joined during it). The carried-over part is
+ * stored next to each balance, so the balance endpoint reports entitlement + carry-over as the total.
+ * Users created in the year being opened already have their balance and are left alone.
+ * Users are split into id-range partitions processed in parallel; each chunk is read by keyset
+ * pagination and written in one short transaction together with its checkpoint, so a crashed run
+ * resumes where it stopped without applying any user twice. Each chunk locks its checkpoint row,
+ * so runs that overlap after a lost lease take turns instead of repeating chunks. Scheduled and
+ * admin-triggered runs both hold the lease row, renewed after every chunk.
+ */
+@Service
+public class LeaveYearRolloverService {
+
+    private static final Logger log = LoggerFactory.getLogger(LeaveYearRolloverService.class);
+
+    private static final String SELECT_CHUNK =
+        "SELECT id, tenant_id, leave_balance_minutes, created_at FROM users WHERE id > ? AND id <= ? ORDER BY id LIMIT ? FOR UPDATE";
+
+    private static final String UPDATE_BALANCE =
+        "UPDATE users SET leave_balance_minutes = ?, carried_over_minutes = ?, updated_at = ?, version = version + 1 WHERE id = ?";
+
+    private static final String SELECT_TYPE_BALANCES =
+        "SELECT user_id, leave_type, balance_minutes FROM leave_type_balances WHERE user_id > ? AND user_id <= ? FOR UPDATE";
+
+    private static final String UPDATE_TYPE_BALANCE =
+        "UPDATE leave_type_balances SET balance_minutes = ?, carried_over_minutes = ?, version = version + 1 " +
+        "WHERE user_id = ? AND leave_type = ?";
+
+    // A user without a row has not used the type and holds its full entitlement (see LeaveTypeBalance)
+    private static final String INSERT_TYPE_BALANCE =
+        "INSERT INTO leave_type_balances (tenant_id, user_id, leave_type, balance_minutes, carried_over_minutes, version) " +
+        "VALUES (?, ?, ?, ?, ?, 0)";
+
+    private static final String LOCK_CHECKPOINT =
+        "SELECT processed_up_to_id, processed_count, completed FROM leave_year_checkpoints WHERE id = ? FOR UPDATE";
+
+    private static final String UPDATE_CHECKPOINT =
+        "UPDATE leave_year_checkpoints SET processed_up_to_id = ?, processed_count = ?, completed = ?, updated_at = ? WHERE id = ?";
+
+    private static final String LEASE_NAME = "leave-year-rollover";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private LeaveYearCheckpointRepository checkpointRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private SchedulerLeaseManager schedulerLeaseManager;
+
+    @Autowired
+    private LeaveEntitlementPolicy leaveEntitlementPolicy;
+
+    // The lease is per node, so runs started on this node (schedule and admin endpoint) also exclude each other
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Value("${app.leave.rollover.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${app.leave.rollover.partitions:4}")
+    private int partitions;
+
+    @Value("${app.leave.rollover.lease-seconds:3600}")
+    private long leaseSeconds;
+
+    @Scheduled(cron = "${app.leave.rollover.cron:0 5 0 1 1 *}")
+    public void scheduledRollover() {
+        // The cron fires on every node; the lease holder runs it
+        if (tryRollover(LocalDate.now().getYear()) == null) {
+            log.info("Leave year rollover skipped, another run holds the lease");
+        }
+    }
+
+    public AdminDTO.RolloverResponse rollover(int leaveYear) {
+        AdminDTO.RolloverResponse response = tryRollover(leaveYear);
+        if (response == null) {
+            throw new RuntimeException("A leave year rollover is already running");
+        }
+        return response;
+    }
+
+    // Null when a run on this node or the lease holder elsewhere is already rolling over
+    private AdminDTO.RolloverResponse tryRollover(int leaveYear) {
+        if (!running.compareAndSet(false, true)) {
+            return null;
+        }
+        Duration lease = Duration.ofSeconds(leaseSeconds);
+        try {
+            if (!schedulerLeaseManager.tryAcquire(LEASE_NAME, lease)) {
+                return null;
+            }
+            try {
+                return rolloverHoldingLease(leaveYear, lease);
+            } finally {
+                schedulerLeaseManager.release(LEASE_NAME);
+            }
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private AdminDTO.RolloverResponse rolloverHoldingLease(int leaveYear, Duration lease) {
+        long started = System.currentTimeMillis();
+        List<LeaveYearCheckpoint> checkpoints = loadOrCreateCheckpoints(leaveYear);
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, checkpoints.size()));
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (LeaveYearCheckpoint checkpoint : checkpoints) {
+                if (!checkpoint.getCompleted()) {
+                    futures.add(executor.submit(() -> processPartition(checkpoint, lease)));
+                }
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Leave year rollover interrupted", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Leave year rollover failed: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            executor.shutdown();
+        }
+
+        // Other runs may have advanced some partitions, so report what the table holds; the entities
+        // loaded above are stale because chunks update the rows through JDBC
+        Map<String, Object> totals = jdbcTemplate.queryForMap(
+            "SELECT COUNT(*) AS total, SUM(processed_count) AS processed, SUM(CASE WHEN completed THEN 1 ELSE 0 END) AS done " +
+            "FROM leave_year_checkpoints WHERE leave_year = ?", leaveYear);
+        int partitionCount = ((Number) totals.get("total")).intValue();
+        long processed = totals.get("processed") != null ? ((Number) totals.get("processed")).longValue() : 0;
+        boolean completed = totals.get("done") != null && ((Number) totals.get("done")).intValue() == partitionCount;
+        long duration = System.currentTimeMillis() - started;
+        log.info("Leave year {} rollover: {} users in {} partitions, {} ms", leaveYear, processed, partitionCount, duration);
+
+        return new AdminDTO.RolloverResponse(leaveYear, partitionCount, processed, completed, duration);
+    }
+
+    private List<LeaveYearCheckpoint> loadOrCreateCheckpoints(int leaveYear) {
+        List<LeaveYearCheckpoint> existing = checkpointRepository.findByLeaveYearOrderByPartitionNo(leaveYear);
+        if (!existing.isEmpty()) {
+            return existing;
+        }
+
+        Map<String, Object> bounds = jdbcTemplate.queryForMap("SELECT MIN(id) AS min_id, MAX(id) AS max_id FROM users");
+        if (bounds.get("min_id") == null) {
+            return existing;
+        }
+        long minId = ((Number) bounds.get("min_id")).longValue();
+        long maxId = ((Number) bounds.get("max_id")).longValue();
+        long span = (maxId - minId) / partitions + 1;
+
+        List<LeaveYearCheckpoint> created = new ArrayList<>();
+        for (int p = 0; p < partitions; p++) {
+            long first = minId + p * span;
+            if (first > maxId) {
+                break;
+            }
+            LeaveYearCheckpoint checkpoint = new LeaveYearCheckpoint();
+            checkpoint.setLeaveYear(leaveYear);
+            checkpoint.setPartitionNo(p);
+            checkpoint.setFirstUserId(first);
+            checkpoint.setLastUserId(Math.min(maxId, first + span - 1));
+            checkpoint.setProcessedUpToId(first - 1);
+            created.add(checkpoint);
+        }
+
+        try {
+            return new TransactionTemplate(transactionManager).execute(status -> checkpointRepository.saveAll(created));
+        } catch (DataIntegrityViolationException e) {
+            // Another node created the checkpoints first
+            return checkpointRepository.findByLeaveYearOrderByPartitionNo(leaveYear);
+        }
+    }
+
+    private void processPartition(LeaveYearCheckpoint checkpoint, Duration lease) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        int leaveYear = checkpoint.getLeaveYear();
+        LocalDate yearStart = LocalDate.of(leaveYear, 1, 1);
+        boolean[] completed = {false};
+
+        while (!completed[0]) {
+            // Read and write each chunk in one transaction; FOR UPDATE locks only this chunk's rows
+            // so a concurrent approval cannot be overwritten with a stale balance
+            transactionTemplate.executeWithoutResult(status -> {
+                // Continue from the locked checkpoint row, not this run's copy: a run on another node or
+                // from the admin endpoint may have moved it, and waits here until this chunk commits
+                Object[] stored = jdbcTemplate.queryForObject(LOCK_CHECKPOINT, (rs, rowNum) -> new Object[] {
+                    rs.getLong("processed_up_to_id"), rs.getLong("processed_count"), rs.getBoolean("completed")
+                }, checkpoint.getId());
+                if ((Boolean) stored[2]) {
+                    completed[0] = true;
+                    return;
+                }
+
+                List<ChunkUser> users = jdbcTemplate.query(SELECT_CHUNK, (rs, rowNum) -> {
+                    Timestamp createdAt = rs.getTimestamp("created_at");
+                    return new ChunkUser(rs.getLong("id"), rs.getString("tenant_id"), rs.getLong("leave_balance_minutes"),
+                        createdAt != null ? createdAt.toLocalDateTime().toLocalDate() : null);
+                }, stored[0], checkpoint.getLastUserId(), chunkSize);
+                long lastId = users.isEmpty() ? (Long) stored[0] : users.get(users.size() - 1).id;
+                Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+                List<Object[]> updates = new ArrayList<>(users.size());
+                List<ChunkUser> rolled = new ArrayList<>(users.size());
+                for (ChunkUser user : users) {
+                    if (user.createdOn != null && !user.createdOn.isBefore(yearStart)) {
+                        continue;
+                    }
+                    long carried = leaveEntitlementPolicy.carryOverMinutes(user.balance, user.createdOn, leaveYear,
+                        leaveEntitlementPolicy.getAnnualEntitlementMinutes(), leaveEntitlementPolicy.getCarryOverCapMinutes());
+                    updates.add(new Object[] {carried + leaveEntitlementPolicy.getAnnualEntitlementMinutes(), carried, now, user.id});
+                    rolled.add(user);
+                }
+                if (!updates.isEmpty()) {
+                    jdbcTemplate.batchUpdate(UPDATE_BALANCE, updates);
+                }
+                if (!rolled.isEmpty() && !leaveEntitlementPolicy.getTypesWithOwnBalance().isEmpty()) {
+                    rollTypeBalances(rolled, (Long) stored[0], lastId, leaveYear);
+                }
+
+                completed[0] = users.size() < chunkSize;
+                jdbcTemplate.update(UPDATE_CHECKPOINT, lastId, (Long) stored[1] + users.size(), completed[0], now,
+                    checkpoint.getId());
+            });
+
+            if (!completed[0] && !schedulerLeaseManager.renew(LEASE_NAME, lease)) {
+                // The checkpoint is committed, so whoever holds the lease now continues from here
+                throw new RuntimeException("lost the lease in partition " + checkpoint.getPartitionNo());
+            }
+        }
+    }
+
+    private void rollTypeBalances(List<ChunkUser> users, long afterId, long lastId, int leaveYear) {
+        Map<Long, Map<String, Long>> existing = new HashMap<>();
+        jdbcTemplate.query(SELECT_TYPE_BALANCES, rs -> {
+            existing.computeIfAbsent(rs.getLong("user_id"), id -> new HashMap<>())
+                .put(rs.getString("leave_type"), rs.getLong("balance_minutes"));
+        }, afterId, lastId);
+
+        List<Object[]> updates = new ArrayList<>();
+        List<Object[]> inserts = new ArrayList<>();
+        for (ChunkUser user : users) {
+            Map<String, Long> balances = existing.getOrDefault(user.id, Map.of());
+            for (LeaveType leaveType : leaveEntitlementPolicy.getTypesWithOwnBalance()) {
+                long entitlement = leaveEntitlementPolicy.getEntitlementMinutes(leaveType);
+                Long balance = balances.get(leaveType.name());
+                long carried = leaveEntitlementPolicy.carryOverMinutes(balance != null ? balance : entitlement,
+                    user.createdOn, leaveYear, entitlement, leaveEntitlementPolicy.getCarryOverCapMinutes(leaveType));
+                if (balance != null) {
+                    updates.add(new Object[] {carried + entitlement, carried, user.id, leaveType.name()});
+                } else {
+                    inserts.add(new Object[] {user.tenantId, user.id, leaveType.name(), carried + entitlement, carried});
+                }
+            }
+        }
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_TYPE_BALANCE, updates);
+        }
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_TYPE_BALANCE, inserts);
+        }
+    }
+
+    private static class ChunkUser {
+        private final long id;
+        private final String tenantId;
+        private final long balance;
+        private final LocalDate createdOn;
+
+        private ChunkUser(long id, String tenantId, long balance, LocalDate createdOn) {
+            this.id = id;
+            this.tenantId = tenantId;
+            this.balance = balance;
+            this.createdOn = createdOn;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.leavemanagement.service;
+
+import com.leavemanagement.config.NodeIdentity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Cluster-wide mutual exclusion for scheduled jobs through lease rows in scheduler_leases. Taking or
+ * renewing a lease is a single conditional UPDATE (or the INSERT that creates the row), so two nodes
+ * can never both hold it; a node that dies simply lets its lease expire. Expiry uses each node's
+ * clock, so the lease duration should be well above the clock skew between nodes.
+ */
+@Component
+public class SchedulerLeaseManager {
+
+    private static final Logger log = LoggerFactory.getLogger(SchedulerLeaseManager.class);
+
+    private static final String TAKE =
+        "UPDATE scheduler_leases SET owner = ?, expires_at = ? WHERE name = ? AND (owner = ? OR expires_at < ?)";
+
+    private static final String RENEW =
+        "UPDATE scheduler_leases SET expires_at = ? WHERE name = ? AND owner = ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NodeIdentity nodeIdentity;
+
+    public boolean tryAcquire(String name, Duration duration) {
+        String owner = nodeIdentity.getId();
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp expiresAt = Timestamp.valueOf(now.plus(duration));
+        if (jdbcTemplate.update(TAKE, owner, expiresAt, name, owner, Timestamp.valueOf(now)) > 0) {
+            return true;
+        }
+        try {
+            jdbcTemplate.update("INSERT INTO scheduler_leases (name, owner, expires_at) VALUES (?, ?, ?)", name, owner, expiresAt);
+            return true;
+        } catch (DuplicateKeyException e) {
+            // Another node holds the lease
+            return false;
+        }
+    }
+
+    // False when the lease expired and another node took it; the caller must stop
+    public boolean renew(String name, Duration duration) {
+        return jdbcTemplate.update(RENEW, Timestamp.valueOf(LocalDateTime.now().plus(duration)), name, nodeIdentity.getId()) > 0;
+    }
+
+    public void release(String name) {
+        try {
+            jdbcTemplate.update(RENEW, Timestamp.valueOf(LocalDateTime.now().minusSeconds(1)), name, nodeIdentity.getId());
+        } catch (Exception e) {
+            log.warn("Releasing lease {} failed, it will expire on its own: {}", name, e.getMessage());
+        }
+    }
+}
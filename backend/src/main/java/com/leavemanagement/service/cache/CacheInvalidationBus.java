@@ -0,0 +1,79 @@
+package com.leavemanagement.service.cache;
+
+import com.leavemanagement.config.NodeIdentity;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Keeps the in-process caches of every node coherent. A writer calls invalidate; once its
+ * transaction commits the entry is dropped on this node and the invalidation is published, and
+ * the other nodes drop theirs when the transport delivers it. Messages carry the version of the
+ * changed row, so a node that already loaded the new version keeps it.
+ */
+@Service
+public class CacheInvalidationBus {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheInvalidationBus.class);
+
+    @Autowired
+    private InvalidationTransport transport;
+
+    @Autowired
+    private NodeIdentity nodeIdentity;
+
+    // Looked up on use; the caches are beans that may themselves be created after the bus
+    @Autowired
+    private ObjectProvider<InvalidatableCache> caches;
+
+    @PostConstruct
+    public void start() {
+        transport.subscribe(this::receive);
+    }
+
+    public void invalidate(String cache, String key, long version) {
+        InvalidationMessage message = new InvalidationMessage(cache, key, version, nodeIdentity.getId());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    send(message);
+                }
+            });
+        } else {
+            send(message);
+        }
+    }
+
+    public void invalidateAll(String cache) {
+        invalidate(cache, InvalidationMessage.ALL_KEYS, 0);
+    }
+
+    private void send(InvalidationMessage message) {
+        apply(message);
+        try {
+            transport.publish(message);
+        } catch (Exception e) {
+            // The change is committed; other nodes fall back to their cache TTLs
+            log.warn("Publishing invalidation of {} {} failed: {}", message.getCache(), message.getKey(), e.getMessage());
+        }
+    }
+
+    private void receive(InvalidationMessage message) {
+        // This node applied its own messages when it sent them
+        if (!nodeIdentity.getId().equals(message.getOrigin())) {
+            apply(message);
+        }
+    }
+
+    private void apply(InvalidationMessage message) {
+        caches.orderedStream()
+            .filter(cache -> cache.cacheName().equals(message.getCache()))
+            .forEach(cache -> cache.invalidate(message.getKey(), message.getVersion()));
+    }
+}
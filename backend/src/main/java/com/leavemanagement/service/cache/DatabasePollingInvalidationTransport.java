@@ -0,0 +1,169 @@
+package com.leavemanagement.service.cache;
+
+import com.leavemanagement.config.NodeIdentity;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Publishes invalidations as rows of cache_invalidations and polls the table every
+ * app.cache.invalidation.poll-ms for rows written by other nodes, so a change reaches every node
+ * within about one poll interval. Each poll reads the rows past the last id seen, then re-reads the
+ * rows created in the last app.cache.invalidation.reorder-window-seconds: AUTO_INCREMENT ids are
+ * taken at insert but become visible at commit, so a lower id can appear after a higher one was
+ * read. Ids delivered within the window are remembered so each row is applied once. Timestamps come
+ * from the database clock, so node clock skew does not shift the window. Rows older than
+ * app.cache.invalidation.retention-minutes are deleted.
+ */
+@Component
+@ConditionalOnProperty(name = "app.cache.invalidation.transport", havingValue = "database", matchIfMissing = true)
+public class DatabasePollingInvalidationTransport implements InvalidationTransport {
+
+    private static final Logger log = LoggerFactory.getLogger(DatabasePollingInvalidationTransport.class);
+
+    private static final String INSERT =
+        "INSERT INTO cache_invalidations (cache_name, cache_key, version, origin, created_at) " +
+        "VALUES (?, ?, ?, ?, CURRENT_TIMESTAMP)";
+
+    private static final String SELECT_AFTER =
+        "SELECT id, cache_name, cache_key, version, origin FROM cache_invalidations WHERE id > ? AND origin <> ? " +
+        "ORDER BY id LIMIT ?";
+
+    // Rows at or below the last id seen that are still inside the reorder window
+    private static final String SELECT_RECENT =
+        "SELECT id, cache_name, cache_key, version, origin FROM cache_invalidations " +
+        "WHERE created_at >= TIMESTAMPADD(SECOND, ?, CURRENT_TIMESTAMP) AND id <= ? AND origin <> ? ORDER BY id";
+
+    private static final long PURGE_INTERVAL_MS = 60_000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NodeIdentity nodeIdentity;
+
+    @Value("${app.cache.invalidation.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.cache.invalidation.retention-minutes:60}")
+    private long retentionMinutes;
+
+    @Value("${app.cache.invalidation.reorder-window-seconds:10}")
+    private int reorderWindowSeconds;
+
+    private final List<Consumer<InvalidationMessage>> subscribers = new CopyOnWriteArrayList<>();
+
+    // Highest id delivered; -1 until the first poll starts from the end of the table
+    private long lastSeenId = -1;
+
+    // Ids delivered recently enough to be read again by the window re-read, with when they were delivered
+    private final Map<Long, Long> deliveredIds = new HashMap<>();
+
+    private long lastPurge;
+
+    @Override
+    public void publish(InvalidationMessage message) {
+        jdbcTemplate.update(INSERT, message.getCache(), message.getKey(), message.getVersion(), message.getOrigin());
+    }
+
+    @Override
+    public void subscribe(Consumer<InvalidationMessage> subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    @Scheduled(fixedDelayString = "${app.cache.invalidation.poll-ms:1000}")
+    public synchronized void poll() {
+        try {
+            if (lastSeenId < 0) {
+                // Caches start empty, so nothing published before this node started applies to it
+                Long max = jdbcTemplate.queryForObject("SELECT MAX(id) FROM cache_invalidations", Long.class);
+                lastSeenId = max != null ? max : 0;
+            }
+
+            List<PolledRow> rows;
+            do {
+                rows = jdbcTemplate.query(SELECT_AFTER, (rs, rowNum) -> readRow(rs),
+                    lastSeenId, nodeIdentity.getId(), batchSize);
+                for (PolledRow row : rows) {
+                    deliverOnce(row);
+                    lastSeenId = row.getId();
+                }
+            } while (rows.size() == batchSize);
+
+            // Rows that committed after a higher id had already been read
+            for (PolledRow row : jdbcTemplate.query(SELECT_RECENT, (rs, rowNum) -> readRow(rs),
+                    -reorderWindowSeconds, lastSeenId, nodeIdentity.getId())) {
+                deliverOnce(row);
+            }
+            forgetDeliveredIds();
+
+            purge();
+        } catch (Exception e) {
+            // Entries still expire by TTL; the next poll picks up from the same id
+            log.warn("Polling cache invalidations failed: {}", e.getMessage());
+        }
+    }
+
+    private PolledRow readRow(ResultSet rs) throws SQLException {
+        return new PolledRow(rs.getLong("id"), new InvalidationMessage(rs.getString("cache_name"),
+            rs.getString("cache_key"), rs.getLong("version"), rs.getString("origin")));
+    }
+
+    private void deliverOnce(PolledRow row) {
+        if (deliveredIds.putIfAbsent(row.getId(), System.currentTimeMillis()) == null) {
+            deliver(row.getMessage());
+        }
+    }
+
+    // A row leaves the window reorder-window-seconds after its insert, which is before its delivery;
+    // ids are kept twice as long so a slow poll cannot deliver them again
+    private void forgetDeliveredIds() {
+        long cutoff = System.currentTimeMillis() - 2_000L * reorderWindowSeconds;
+        deliveredIds.values().removeIf(deliveredAt -> deliveredAt < cutoff);
+    }
+
+    private void deliver(InvalidationMessage message) {
+        for (Consumer<InvalidationMessage> subscriber : subscribers) {
+            try {
+                subscriber.accept(message);
+            } catch (Exception e) {
+                log.warn("Applying invalidation of {} {} failed: {}", message.getCache(), message.getKey(), e.getMessage());
+            }
+        }
+    }
+
+    private void purge() {
+        long now = System.currentTimeMillis();
+        if (now - lastPurge < PURGE_INTERVAL_MS) {
+            return;
+        }
+        lastPurge = now;
+        int deleted = jdbcTemplate.update(
+            "DELETE FROM cache_invalidations WHERE created_at < TIMESTAMPADD(MINUTE, ?, CURRENT_TIMESTAMP)",
+            -retentionMinutes);
+        if (deleted > 0) {
+            log.debug("Purged {} old cache invalidations", deleted);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class PolledRow {
+        private final long id;
+        private final InvalidationMessage message;
+    }
+}
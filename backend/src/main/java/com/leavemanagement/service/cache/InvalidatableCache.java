@@ -0,0 +1,10 @@
+package com.leavemanagement.service.cache;
+
+// An in-process cache that CacheInvalidationBus keeps coherent across nodes
+public interface InvalidatableCache {
+
+    String cacheName();
+
+    // key is InvalidationMessage.ALL_KEYS to drop everything
+    void invalidate(String key, long version);
+}
@@ -0,0 +1,21 @@
+package com.leavemanagement.service.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * "Drop what you cache under key in cache if it is older than version". A key of "*" drops the
+ * whole cache; version 0 drops matching entries whatever their version.
+ */
+@Getter
+@AllArgsConstructor
+public class InvalidationMessage {
+
+    public static final String ALL_KEYS = "*";
+
+    private final String cache;
+    private final String key;
+    private final long version;
+    // Node that made the change, so transports can skip a node's own messages
+    private final String origin;
+}
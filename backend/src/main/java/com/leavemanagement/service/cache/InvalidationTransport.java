@@ -0,0 +1,15 @@
+package com.leavemanagement.service.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * Carries invalidations between backend nodes. Selected with app.cache.invalidation.transport:
+ * "database" (the default) polls a shared table, "loopback" only delivers within this JVM, for
+ * tests and single-node runs. Messages may arrive more than once; applying them is idempotent.
+ */
+public interface InvalidationTransport {
+
+    void publish(InvalidationMessage message);
+
+    void subscribe(Consumer<InvalidationMessage> subscriber);
+}
@@ -0,0 +1,27 @@
+package com.leavemanagement.service.cache;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+// Delivers every message straight back to this JVM's subscribers: tests and single-node deployments
+@Component
+@ConditionalOnProperty(name = "app.cache.invalidation.transport", havingValue = "loopback")
+public class LoopbackInvalidationTransport implements InvalidationTransport {
+
+    private final List<Consumer<InvalidationMessage>> subscribers = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(InvalidationMessage message) {
+        for (Consumer<InvalidationMessage> subscriber : subscribers) {
+            subscriber.accept(message);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<InvalidationMessage> subscriber) {
+        subscribers.add(subscriber);
+    }
+}
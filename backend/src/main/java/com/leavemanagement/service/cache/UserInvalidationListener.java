@@ -0,0 +1,27 @@
+package com.leavemanagement.service.cache;
+
+import com.leavemanagement.model.User;
+import com.leavemanagement.security.TenantUserDetailsCache;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+
+// JPA listener on User, created by Hibernate through Spring's bean container; runs on flush, the bus waits for the commit
+public class UserInvalidationListener {
+
+    @Autowired
+    private ObjectProvider<CacheInvalidationBus> cacheInvalidationBus;
+
+    @PostUpdate
+    public void updated(User user) {
+        cacheInvalidationBus.getObject().invalidate(TenantUserDetailsCache.NAME,
+            TenantUserDetailsCache.key(user.getTenantId(), user.getUsername()), user.getVersion());
+    }
+
+    @PostRemove
+    public void removed(User user) {
+        cacheInvalidationBus.getObject().invalidate(TenantUserDetailsCache.NAME,
+            TenantUserDetailsCache.key(user.getTenantId(), user.getUsername()), 0);
+    }
+}
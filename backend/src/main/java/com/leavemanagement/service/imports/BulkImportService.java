@@ -0,0 +1,149 @@
+package com.leavemanagement.service.imports;
+
+import com.leavemanagement.dto.AdminDTO;
+import com.leavemanagement.security.TenantContext;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs CSV imports in the background, one file at a time. The upload is spooled to a temporary
+ * file and streamed from there, so the request returns as soon as the file is received and the
+ * caller polls the job for progress and row errors. Jobs are kept in memory for
+ * app.import.retention-minutes after they finish.
+ */
+@Service
+public class BulkImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkImportService.class);
+
+    @Autowired
+    private UserCsvImporter userCsvImporter;
+
+    @Autowired
+    private LeaveCsvImporter leaveCsvImporter;
+
+    @Value("${app.import.max-errors:10000}")
+    private int maxErrors;
+
+    @Value("${app.import.retention-minutes:60}")
+    private long retentionMinutes;
+
+    private final Map<String, ImportJob> jobs = new ConcurrentHashMap<>();
+
+    private ExecutorService runner;
+
+    @PostConstruct
+    public void start() {
+        runner = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "csv-import-runner");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void stop() {
+        runner.shutdownNow();
+    }
+
+    public AdminDTO.ImportJobResponse importUsers(MultipartFile file) {
+        return submit("users", userCsvImporter, file);
+    }
+
+    public AdminDTO.ImportJobResponse importLeaves(MultipartFile file) {
+        return submit("leaves", leaveCsvImporter, file);
+    }
+
+    public AdminDTO.ImportJobResponse getJob(String id) {
+        return findJob(id).toResponse();
+    }
+
+    // Row errors as CSV, ready to fix up and re-import alongside the original file
+    public String getErrorsCsv(String id) {
+        StringBuilder csv = new StringBuilder("row,error\n");
+        List<ImportJob.RowError> errors = findJob(id).getErrors();
+        // Parse errors are recorded as rows are read and the rest per chunk, so sort back into file order
+        errors.sort(Comparator.comparingLong(ImportJob.RowError::getRow));
+        for (ImportJob.RowError error : errors) {
+            csv.append(error.getRow()).append(",\"").append(error.getError().replace("\"", "\"\"")).append("\"\n");
+        }
+        return csv.toString();
+    }
+
+    private AdminDTO.ImportJobResponse submit(String kind, ChunkedCsvImporter<?, ?> importer, MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            throw new RuntimeException("The file is empty");
+        }
+        removeExpiredJobs();
+
+        Path spool;
+        try {
+            spool = Files.createTempFile("leave-import-", ".csv");
+            file.transferTo(spool);
+        } catch (IOException e) {
+            throw new RuntimeException("Could not receive the file: " + e.getMessage());
+        }
+
+        String tenantId = TenantContext.get() != null ? TenantContext.get() : TenantContext.DEFAULT_TENANT;
+        ImportJob job = new ImportJob(UUID.randomUUID().toString(), kind, tenantId, file.getOriginalFilename(), maxErrors);
+        jobs.put(job.getId(), job);
+        runner.execute(() -> run(job, importer, spool));
+        return job.toResponse();
+    }
+
+    private void run(ImportJob job, ChunkedCsvImporter<?, ?> importer, Path spool) {
+        long started = System.currentTimeMillis();
+        job.started();
+        try (CsvReader reader = new CsvReader(Files.newBufferedReader(spool, StandardCharsets.UTF_8))) {
+            importer.run(job, reader);
+            job.completed();
+        } catch (Exception e) {
+            log.error("Import {} of {} failed", job.getId(), job.getKind(), e);
+            job.failed(e.getMessage());
+        } finally {
+            try {
+                Files.deleteIfExists(spool);
+            } catch (IOException e) {
+                log.warn("Could not delete import spool file {}", spool);
+            }
+        }
+
+        AdminDTO.ImportJobResponse result = job.toResponse();
+        log.info("Import {} of {} for tenant {}: {} rows read, {} imported, {} failed in {} ms",
+            job.getId(), job.getKind(), job.getTenantId(), result.getRowsRead(), result.getRowsImported(),
+            result.getRowsFailed(), System.currentTimeMillis() - started);
+    }
+
+    // Admins only see the jobs of their own tenant
+    private ImportJob findJob(String id) {
+        ImportJob job = jobs.get(id);
+        String tenantId = TenantContext.get() != null ? TenantContext.get() : TenantContext.DEFAULT_TENANT;
+        if (job == null || !job.getTenantId().equals(tenantId)) {
+            throw new RuntimeException("Import job not found");
+        }
+        return job;
+    }
+
+    private void removeExpiredJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(retentionMinutes);
+        jobs.values().removeIf(job -> job.getFinishedAt() != null && job.getFinishedAt().isBefore(cutoff));
+    }
+}
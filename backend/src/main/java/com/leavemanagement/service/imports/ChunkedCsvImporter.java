@@ -0,0 +1,98 @@
+package com.leavemanagement.service.imports;
+
+import org.springframework.beans.factory.annotation.Value;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Reads a CSV import chunk by chunk so memory stays flat however large the file is. Subclasses
+ * turn a record into a row (or a row error) and import one chunk at a time with set-based queries
+ * and JDBC batches; S carries whatever they remember between chunks of the same file.
+ */
+public abstract class ChunkedCsvImporter<R, S> {
+
+    @Value("${app.import.chunk-size:1000}")
+    protected int chunkSize;
+
+    protected abstract List<String> requiredColumns();
+
+    protected abstract S newState(ImportJob job);
+
+    protected abstract R parse(Record record, S state);
+
+    protected abstract void importChunk(ImportJob job, S state, List<R> rows);
+
+    public void run(ImportJob job, CsvReader reader) throws IOException {
+        List<String> header = reader.header();
+        if (header == null) {
+            throw new RuntimeException("The file is empty");
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        for (String column : requiredColumns()) {
+            if (!columns.containsKey(column.toLowerCase(Locale.ROOT))) {
+                throw new RuntimeException("Missing column: " + column);
+            }
+        }
+
+        S state = newState(job);
+        List<R> chunk = new ArrayList<>(chunkSize);
+        List<String> values;
+        while ((values = reader.next()) != null) {
+            job.rowRead();
+            Record record = new Record(reader.getRecordNumber(), values, columns);
+            try {
+                chunk.add(parse(record, state));
+            } catch (RuntimeException e) {
+                job.rowFailed(record.getNumber(), e.getMessage());
+            }
+            if (chunk.size() == chunkSize) {
+                importChunk(job, state, chunk);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            importChunk(job, state, chunk);
+        }
+    }
+
+    public static class Record {
+        private final long number;
+        private final List<String> values;
+        private final Map<String, Integer> columns;
+
+        Record(long number, List<String> values, Map<String, Integer> columns) {
+            this.number = number;
+            this.values = values;
+            this.columns = columns;
+        }
+
+        public long getNumber() {
+            return number;
+        }
+
+        // Trimmed value, or null when the column is absent or blank
+        public String get(String column) {
+            Integer index = columns.get(column.toLowerCase(Locale.ROOT));
+            if (index == null || index >= values.size()) {
+                return null;
+            }
+            String value = values.get(index).trim();
+            return value.isEmpty() ? null : value;
+        }
+
+        public String require(String column) {
+            String value = get(column);
+            if (value == null) {
+                throw new RuntimeException(column + " is required");
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.leavemanagement.service.imports;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming RFC 4180 reader: one record in memory at a time, quoted fields may contain commas,
+ * doubled quotes and line breaks. Record numbers count data records from 1, excluding the header.
+ */
+public class CsvReader implements Closeable {
+
+    private final Reader reader;
+
+    private final StringBuilder field = new StringBuilder();
+
+    private int pushedBack = -2;
+
+    private long recordNumber;
+
+    public CsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    public long getRecordNumber() {
+        return recordNumber;
+    }
+
+    // Returns the next record, or null at end of input; blank lines are skipped
+    public List<String> next() throws IOException {
+        List<String> record = new ArrayList<>();
+        field.setLength(0);
+        boolean quoted = false;
+        boolean fieldStarted = false;
+
+        while (true) {
+            int c = read();
+            if (c == -1) {
+                if (quoted) {
+                    throw new IOException("Unterminated quoted field in record " + (recordNumber + 1));
+                }
+                if (!fieldStarted && record.isEmpty()) {
+                    return null;
+                }
+                record.add(field.toString());
+                break;
+            }
+            if (quoted) {
+                if (c == '"') {
+                    int following = read();
+                    if (following == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        unread(following);
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+                fieldStarted = true;
+            } else if (c == ',') {
+                record.add(field.toString());
+                field.setLength(0);
+                fieldStarted = true;
+            } else if (c == '\r' || c == '\n') {
+                if (c == '\r') {
+                    int following = read();
+                    if (following != '\n') {
+                        unread(following);
+                    }
+                }
+                if (!fieldStarted && record.isEmpty()) {
+                    continue;
+                }
+                record.add(field.toString());
+                break;
+            } else {
+                field.append((char) c);
+                fieldStarted = true;
+            }
+        }
+        recordNumber++;
+        return record;
+    }
+
+    // The header is not counted as a record; a leading byte order mark (Excel writes one) is dropped
+    public List<String> header() throws IOException {
+        List<String> header = next();
+        recordNumber = 0;
+        if (header != null && header.get(0).startsWith("\uFEFF")) {
+            header.set(0, header.get(0).substring(1));
+        }
+        return header;
+    }
+
+    private int read() throws IOException {
+        if (pushedBack != -2) {
+            int c = pushedBack;
+            pushedBack = -2;
+            return c;
+        }
+        return reader.read();
+    }
+
+    private void unread(int c) {
+        pushedBack = c;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
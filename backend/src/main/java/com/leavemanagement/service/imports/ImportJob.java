@@ -0,0 +1,141 @@
+package com.leavemanagement.service.imports;
+
+import com.leavemanagement.dto.AdminDTO;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Progress of one CSV import, updated by the import thread and read by the status endpoint.
+ * Row errors are kept up to a cap; past it they are only counted.
+ */
+public class ImportJob {
+
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    private final String id;
+
+    private final String kind;
+
+    private final String tenantId;
+
+    private final String fileName;
+
+    private final int maxErrors;
+
+    private final AtomicLong rowsRead = new AtomicLong();
+
+    private final AtomicLong rowsImported = new AtomicLong();
+
+    private final AtomicLong rowsFailed = new AtomicLong();
+
+    private final List<RowError> errors = new ArrayList<>();
+
+    private final LocalDateTime submittedAt = LocalDateTime.now();
+
+    private volatile Status status = Status.QUEUED;
+
+    private volatile String message;
+
+    private volatile LocalDateTime finishedAt;
+
+    public ImportJob(String id, String kind, String tenantId, String fileName, int maxErrors) {
+        this.id = id;
+        this.kind = kind;
+        this.tenantId = tenantId;
+        this.fileName = fileName;
+        this.maxErrors = maxErrors;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getKind() {
+        return kind;
+    }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void started() {
+        status = Status.RUNNING;
+    }
+
+    public void completed() {
+        finishedAt = LocalDateTime.now();
+        status = Status.COMPLETED;
+    }
+
+    public void failed(String message) {
+        this.message = message;
+        finishedAt = LocalDateTime.now();
+        status = Status.FAILED;
+    }
+
+    public void rowRead() {
+        rowsRead.incrementAndGet();
+    }
+
+    public void rowsImported(long count) {
+        rowsImported.addAndGet(count);
+    }
+
+    public void rowFailed(long row, String error) {
+        rowsFailed.incrementAndGet();
+        synchronized (errors) {
+            if (errors.size() < maxErrors) {
+                errors.add(new RowError(row, error));
+            }
+        }
+    }
+
+    public List<RowError> getErrors() {
+        synchronized (errors) {
+            return new ArrayList<>(errors);
+        }
+    }
+
+    public AdminDTO.ImportJobResponse toResponse() {
+        int errorsKept;
+        synchronized (errors) {
+            errorsKept = errors.size();
+        }
+        return new AdminDTO.ImportJobResponse(id, kind, tenantId, fileName, status.name(),
+            rowsRead.get(), rowsImported.get(), rowsFailed.get(), errorsKept < rowsFailed.get(),
+            message, submittedAt, finishedAt);
+    }
+
+    public static class RowError {
+        private final long row;
+        private final String error;
+
+        public RowError(long row, String error) {
+            this.row = row;
+            this.error = error;
+        }
+
+        public long getRow() {
+            return row;
+        }
+
+        public String getError() {
+            return error;
+        }
+    }
+}
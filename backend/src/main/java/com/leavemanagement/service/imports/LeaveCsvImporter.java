@@ -0,0 +1,196 @@
+package com.leavemanagement.service.imports;
+
+import com.leavemanagement.model.Leave.DayPortion;
+import com.leavemanagement.model.Leave.LeaveStatus;
+import com.leavemanagement.model.Leave.LeaveType;
+import com.leavemanagement.model.LeaveUnits;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Imports historical leaves from CSV with the columns username, startDate, endDate, leaveType and
+ * optionally portion, hours, status (APPROVED by default), reason and approvedBy (a username).
+ * Leaves are inserted as recorded: the policy rules do not run and balances are not touched, so
+ * balances come from the user import's leaveBalanceDays. Users are resolved per chunk with one
+ * IN query, in the importing tenant only.
+ */
+@Component
+public class LeaveCsvImporter extends ChunkedCsvImporter<LeaveCsvImporter.LeaveRow, Map<String, Long>> {
+
+    private static final List<String> REQUIRED_COLUMNS = List.of("username", "startDate", "endDate", "leaveType");
+
+    private static final String INSERT_LEAVE =
+        "INSERT INTO leaves (tenant_id, user_id, start_date, end_date, duration_minutes, portion, leave_type, reason, status, " +
+        "approved_by, manager_comments, approved_at, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Override
+    protected List<String> requiredColumns() {
+        return REQUIRED_COLUMNS;
+    }
+
+    // Ids of the users the file has referenced so far, by lower-cased username
+    @Override
+    protected Map<String, Long> newState(ImportJob job) {
+        return new HashMap<>();
+    }
+
+    @Override
+    protected LeaveRow parse(Record record, Map<String, Long> userIds) {
+        LeaveRow row = new LeaveRow();
+        row.number = record.getNumber();
+        row.username = record.require("username");
+        row.startDate = date(record, "startDate");
+        row.endDate = date(record, "endDate");
+        if (row.endDate.isBefore(row.startDate)) {
+            throw new RuntimeException("End date must be after start date");
+        }
+        row.leaveType = value(LeaveType.class, record.require("leaveType"), "leaveType");
+
+        String portion = record.get("portion");
+        row.portion = portion != null ? value(DayPortion.class, portion, "portion") : DayPortion.FULL_DAY;
+        int hours = 0;
+        if (row.portion == DayPortion.HOURS) {
+            try {
+                hours = Integer.parseInt(record.require("hours"));
+            } catch (NumberFormatException e) {
+                throw new RuntimeException("hours must be a whole number");
+            }
+            if (hours < 1 || hours > LeaveUnits.MAX_HOURS) {
+                throw new RuntimeException("Hourly leave must be between 1 and " + LeaveUnits.MAX_HOURS + " hours");
+            }
+        }
+        if (row.portion != DayPortion.FULL_DAY && !row.startDate.equals(row.endDate)) {
+            throw new RuntimeException("Half-day and hourly leave must start and end on the same day");
+        }
+        row.durationMinutes = LeaveUnits.durationMinutes(row.startDate, row.endDate, row.portion, hours);
+
+        String status = record.get("status");
+        row.status = status != null ? value(LeaveStatus.class, status, "status") : LeaveStatus.APPROVED;
+        row.reason = record.get("reason");
+        row.approvedBy = record.get("approvedBy");
+        return row;
+    }
+
+    @Override
+    protected void importChunk(ImportJob job, Map<String, Long> userIds, List<LeaveRow> rows) {
+        resolveUsers(job.getTenantId(), userIds, rows);
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> leaves = new ArrayList<>(rows.size());
+        List<LeaveRow> accepted = new ArrayList<>(rows.size());
+        for (LeaveRow row : rows) {
+            Long userId = userIds.get(key(row.username));
+            Long approverId = row.approvedBy != null ? userIds.get(key(row.approvedBy)) : null;
+            if (userId == null) {
+                job.rowFailed(row.number, "Unknown user " + row.username);
+                continue;
+            }
+            if (row.approvedBy != null && approverId == null) {
+                job.rowFailed(row.number, "Unknown approver " + row.approvedBy);
+                continue;
+            }
+            boolean decided = approverId != null
+                && (row.status == LeaveStatus.APPROVED || row.status == LeaveStatus.REJECTED);
+            leaves.add(new Object[] {
+                job.getTenantId(), userId, Date.valueOf(row.startDate), Date.valueOf(row.endDate),
+                row.durationMinutes, row.portion.name(), row.leaveType.name(), row.reason, row.status.name(),
+                decided ? approverId : null, null, decided ? now : null, now, now
+            });
+            accepted.add(row);
+        }
+        if (leaves.isEmpty()) {
+            return;
+        }
+
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_LEAVE, leaves));
+            job.rowsImported(leaves.size());
+        } catch (RuntimeException e) {
+            for (LeaveRow row : accepted) {
+                job.rowFailed(row.number, "Chunk rolled back: " + e.getMessage());
+            }
+        }
+    }
+
+    private void resolveUsers(String tenantId, Map<String, Long> userIds, List<LeaveRow> rows) {
+        Set<String> unknown = new HashSet<>();
+        for (LeaveRow row : rows) {
+            if (!userIds.containsKey(key(row.username))) {
+                unknown.add(row.username);
+            }
+            if (row.approvedBy != null && !userIds.containsKey(key(row.approvedBy))) {
+                unknown.add(row.approvedBy);
+            }
+        }
+        if (unknown.isEmpty()) {
+            return;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("tenant", tenantId)
+            .addValue("values", unknown);
+        namedJdbcTemplate.query("SELECT id, username FROM users WHERE tenant_id = :tenant AND username IN (:values)",
+            params,
+            rs -> {
+                userIds.put(key(rs.getString("username")), rs.getLong("id"));
+            });
+    }
+
+    private static LocalDate date(Record record, String column) {
+        try {
+            return LocalDate.parse(record.require(column));
+        } catch (DateTimeParseException e) {
+            throw new RuntimeException(column + " must be a date in yyyy-MM-dd format");
+        }
+    }
+
+    private static <E extends Enum<E>> E value(Class<E> type, String value, String column) {
+        try {
+            return Enum.valueOf(type, value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Unknown " + column + " " + value);
+        }
+    }
+
+    private static String key(String username) {
+        return username.toLowerCase(Locale.ROOT);
+    }
+
+    static class LeaveRow {
+        private long number;
+        private String username;
+        private LocalDate startDate;
+        private LocalDate endDate;
+        private LeaveType leaveType;
+        private DayPortion portion;
+        private long durationMinutes;
+        private LeaveStatus status;
+        private String reason;
+        private String approvedBy;
+    }
+}
@@ -0,0 +1,325 @@
+package com.leavemanagement.service.imports;
+
+import com.leavemanagement.model.LeaveUnits;
+import com.leavemanagement.service.LeaveEntitlementPolicy;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+/**
+ * Imports users from CSV with the columns username, email, password, fullName and optionally
+ * department, roles (separated by ";"), leaveBalanceDays and manager (a username). Per chunk the
+ * uniqueness checks are two IN queries, passwords are hashed on a bounded pool and users, roles
+ * and reporting lines go out in JDBC batches in one transaction. A manager must already exist in
+ * the tenant or appear earlier in the file.
+ */
+@Component
+public class UserCsvImporter extends ChunkedCsvImporter<UserCsvImporter.UserRow, UserCsvImporter.State> {
+
+    private static final List<String> REQUIRED_COLUMNS = List.of("username", "email", "password", "fullName");
+
+    private static final Set<String> ROLES = Set.of("EMPLOYEE", "MANAGER", "ADMIN");
+
+    private static final Pattern EMAIL = Pattern.compile("[^@\\s]+@[^@\\s]+\\.[^@\\s]+");
+
+    private static final String INSERT_USER =
+        "INSERT INTO users (tenant_id, username, email, password, full_name, department, " +
+        "leave_balance_minutes, enabled, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    // The new user's paths are the manager's paths one level longer; the manager's rows are already in place
+    private static final String ATTACH_TO_MANAGER =
+        "INSERT INTO user_hierarchy (ancestor_id, descendant_id, depth) " +
+        "SELECT ancestor_id, ?, depth + 1 FROM user_hierarchy WHERE descendant_id = ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private LeaveEntitlementPolicy leaveEntitlementPolicy;
+
+    @Value("${app.import.hash-threads:0}")
+    private int hashThreads;
+
+    private ExecutorService hashPool;
+
+    @PostConstruct
+    public void init() {
+        int threads = hashThreads > 0 ? hashThreads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger counter = new AtomicInteger();
+        hashPool = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "import-hash-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hashPool.shutdownNow();
+    }
+
+    @Override
+    protected List<String> requiredColumns() {
+        return REQUIRED_COLUMNS;
+    }
+
+    @Override
+    protected State newState(ImportJob job) {
+        return new State();
+    }
+
+    @Override
+    protected UserRow parse(Record record, State state) {
+        UserRow row = new UserRow();
+        row.number = record.getNumber();
+        row.username = record.require("username");
+        if (row.username.length() < 3 || row.username.length() > 50) {
+            throw new RuntimeException("username must be 3 to 50 characters");
+        }
+        row.email = record.require("email");
+        if (!EMAIL.matcher(row.email).matches()) {
+            throw new RuntimeException("Invalid email format");
+        }
+        row.password = record.require("password");
+        if (row.password.length() < 6) {
+            throw new RuntimeException("Password must be at least 6 characters");
+        }
+        row.fullName = record.require("fullName");
+        row.department = record.get("department");
+        row.manager = record.get("manager");
+
+        row.roles = new LinkedHashSet<>();
+        String roles = record.get("roles");
+        if (roles != null) {
+            for (String role : roles.split(";")) {
+                String name = role.trim().toUpperCase(Locale.ROOT);
+                if (!name.isEmpty() && !ROLES.contains(name)) {
+                    throw new RuntimeException("Unknown role " + role.trim());
+                }
+                if (!name.isEmpty()) {
+                    row.roles.add(name);
+                }
+            }
+        }
+        if (row.roles.isEmpty()) {
+            row.roles.add("EMPLOYEE");
+        }
+
+        String balance = record.get("leaveBalanceDays");
+        try {
+            row.balanceMinutes = balance != null ? LeaveUnits.parseDays(balance) : leaveEntitlementPolicy.getAnnualEntitlementMinutes();
+        } catch (NumberFormatException | ArithmeticException e) {
+            throw new RuntimeException("leaveBalanceDays must be a number of days");
+        }
+        if (row.balanceMinutes < 0) {
+            throw new RuntimeException("leaveBalanceDays cannot be negative");
+        }
+
+        // Checked last so a row that fails validation does not reserve its username
+        if (!state.usernames.add(key(row.username))) {
+            throw new RuntimeException("Duplicate username " + row.username + " in file");
+        }
+        if (!state.emails.add(key(row.email))) {
+            throw new RuntimeException("Duplicate email " + row.email + " in file");
+        }
+        return row;
+    }
+
+    @Override
+    protected void importChunk(ImportJob job, State state, List<UserRow> rows) {
+        Set<String> takenUsernames = existing("SELECT username FROM users WHERE username IN (:values)",
+            rows.stream().map(row -> row.username).toList());
+        Set<String> takenEmails = existing("SELECT email FROM users WHERE email IN (:values)",
+            rows.stream().map(row -> row.email).toList());
+        resolveManagers(job.getTenantId(), state, rows);
+
+        List<UserRow> accepted = new ArrayList<>(rows.size());
+        Set<String> acceptedNames = new HashSet<>();
+        for (UserRow row : rows) {
+            String error = null;
+            if (takenUsernames.contains(key(row.username))) {
+                error = "Username already exists";
+            } else if (takenEmails.contains(key(row.email))) {
+                error = "Email already exists";
+            } else if (row.manager != null && key(row.manager).equals(key(row.username))) {
+                error = "A user cannot be their own manager";
+            } else if (row.manager != null && !state.userIds.containsKey(key(row.manager))
+                    && !acceptedNames.contains(key(row.manager))) {
+                error = "Manager " + row.manager + " not found; managers must exist or appear earlier in the file";
+            }
+
+            if (error != null) {
+                job.rowFailed(row.number, error);
+            } else {
+                accepted.add(row);
+                acceptedNames.add(key(row.username));
+            }
+        }
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        hashPasswords(accepted);
+        try {
+            Map<String, Long> ids = new TransactionTemplate(transactionManager)
+                .execute(status -> insert(job.getTenantId(), state, accepted));
+            state.userIds.putAll(ids);
+            job.rowsImported(accepted.size());
+        } catch (RuntimeException e) {
+            // Someone registered one of these users since the checks ran; the whole chunk was rolled back
+            for (UserRow row : accepted) {
+                job.rowFailed(row.number, "Chunk rolled back: " + e.getMessage());
+            }
+        }
+    }
+
+    private Map<String, Long> insert(String tenantId, State state, List<UserRow> rows) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> users = new ArrayList<>(rows.size());
+        for (UserRow row : rows) {
+            users.add(new Object[] {
+                tenantId, row.username, row.email, row.passwordHash, row.fullName, row.department,
+                row.balanceMinutes, true, now, now
+            });
+        }
+        jdbcTemplate.batchUpdate(INSERT_USER, users);
+
+        Map<String, Long> ids = new HashMap<>();
+        namedJdbcTemplate.query("SELECT id, username FROM users WHERE username IN (:values)",
+            new MapSqlParameterSource("values", rows.stream().map(row -> row.username).toList()),
+            rs -> {
+                ids.put(key(rs.getString("username")), rs.getLong("id"));
+            });
+
+        List<Object[]> roles = new ArrayList<>();
+        List<Object[]> selfPaths = new ArrayList<>(rows.size());
+        List<Object[]> managers = new ArrayList<>();
+        List<Object[]> attachments = new ArrayList<>();
+        for (UserRow row : rows) {
+            Long id = ids.get(key(row.username));
+            for (String role : row.roles) {
+                roles.add(new Object[] {id, role});
+            }
+            selfPaths.add(new Object[] {id, id, 0});
+            if (row.manager != null) {
+                Long managerId = ids.containsKey(key(row.manager)) ? ids.get(key(row.manager)) : state.userIds.get(key(row.manager));
+                managers.add(new Object[] {managerId, id});
+                attachments.add(new Object[] {id, managerId});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO user_roles (user_id, role) VALUES (?, ?)", roles);
+        jdbcTemplate.batchUpdate("INSERT INTO user_hierarchy (ancestor_id, descendant_id, depth) VALUES (?, ?, ?)", selfPaths);
+        jdbcTemplate.batchUpdate("UPDATE users SET manager_id = ? WHERE id = ?", managers);
+        // Rows run in file order, so a manager imported in this chunk is attached before their reports
+        jdbcTemplate.batchUpdate(ATTACH_TO_MANAGER, attachments);
+        return ids;
+    }
+
+    // Managers outside the file are looked up once, in the importing tenant only
+    private void resolveManagers(String tenantId, State state, List<UserRow> rows) {
+        Set<String> unknown = new HashSet<>();
+        for (UserRow row : rows) {
+            if (row.manager != null && !state.userIds.containsKey(key(row.manager))) {
+                unknown.add(row.manager);
+            }
+        }
+        if (unknown.isEmpty()) {
+            return;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("tenant", tenantId)
+            .addValue("values", unknown);
+        namedJdbcTemplate.query("SELECT id, username FROM users WHERE tenant_id = :tenant AND username IN (:values)",
+            params,
+            rs -> {
+                state.userIds.put(key(rs.getString("username")), rs.getLong("id"));
+            });
+    }
+
+    private Set<String> existing(String sql, List<String> values) {
+        Set<String> found = new HashSet<>();
+        for (String value : namedJdbcTemplate.queryForList(sql, new MapSqlParameterSource("values", values), String.class)) {
+            found.add(key(value));
+        }
+        return found;
+    }
+
+    // BCrypt dominates an import, so the chunk is hashed in parallel; the pool size bounds the CPU it takes
+    private void hashPasswords(List<UserRow> rows) {
+        List<Future<String>> hashes = new ArrayList<>(rows.size());
+        for (UserRow row : rows) {
+            String password = row.password;
+            hashes.add(hashPool.submit(() -> passwordEncoder.encode(password)));
+        }
+        try {
+            for (int i = 0; i < rows.size(); i++) {
+                rows.get(i).passwordHash = hashes.get(i).get();
+                rows.get(i).password = null;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Import interrupted");
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Hashing passwords failed: " + e.getCause().getMessage());
+        }
+    }
+
+    // Usernames and emails compare case-insensitively, as the MySQL collation does
+    private static String key(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    static class State {
+        // Usernames and emails seen so far in the file, including rows that later failed
+        private final Set<String> usernames = new HashSet<>();
+        private final Set<String> emails = new HashSet<>();
+        // Ids of users imported from this file and of existing managers it referenced
+        private final Map<String, Long> userIds = new HashMap<>();
+    }
+
+    static class UserRow {
+        private long number;
+        private String username;
+        private String email;
+        private String password;
+        private String passwordHash;
+        private String fullName;
+        private String department;
+        private Set<String> roles;
+        private long balanceMinutes;
+        private String manager;
+    }
+}
@@ -0,0 +1,48 @@
+package com.leavemanagement.service.rules;
+
+import com.leavemanagement.model.Leave.LeaveType;
+import com.leavemanagement.model.LeaveBlackoutPeriod;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.util.EnumSet;
+import java.util.Set;
+
+@Component
+public class BlackoutPeriodRule implements LeaveRule {
+    
+    @Value("${app.leave.rules.blackout-exempt-types:}")
+    private String exemptTypes;
+    
+    private Set<LeaveType> exempt;
+    
+    @PostConstruct
+    public void compile() {
+        exempt = EnumSet.noneOf(LeaveType.class);
+        for (String type : exemptTypes.split(",")) {
+            if (!type.isBlank()) {
+                exempt.add(LeaveType.valueOf(type.trim()));
+            }
+        }
+    }
+    
+    @Override
+    public int cost() {
+        return CACHED;
+    }
+    
+    @Override
+    public String evaluate(LeaveApplication application) {
+        if (exempt.contains(application.getLeaveType())) {
+            return null;
+        }
+        for (LeaveBlackoutPeriod blackout : application.getDepartmentContext().getBlackouts()) {
+            if (!blackout.getStartDate().isAfter(application.getEndDate())
+                    && !blackout.getEndDate().isBefore(application.getStartDate())) {
+                return "Leave cannot be taken between " + blackout.getStartDate() + " and " + blackout.getEndDate() +
+                    (blackout.getReason() != null ? " (" + blackout.getReason() + ")" : "");
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,23 @@
+package com.leavemanagement.service.rules;
+
+import org.springframework.stereotype.Component;
+
+@Component
+public class DateRangeRule implements LeaveRule {
+    
+    @Override
+    public int cost() {
+        return IN_MEMORY;
+    }
+    
+    @Override
+    public String evaluate(LeaveApplication application) {
+        if (application.getStartDate().isBefore(application.getToday())) {
+            return "Start date cannot be in the past";
+        }
+        if (application.getEndDate().isBefore(application.getStartDate())) {
+            return "End date cannot be before start date";
+        }
+        return null;
+    }
+}
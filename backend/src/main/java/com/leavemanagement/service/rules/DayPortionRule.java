@@ -0,0 +1,26 @@
+package com.leavemanagement.service.rules;
+
+import com.leavemanagement.model.Leave.DayPortion;
+import com.leavemanagement.model.LeaveUnits;
+import org.springframework.stereotype.Component;
+
+@Component
+public class DayPortionRule implements LeaveRule {
+    
+    @Override
+    public int cost() {
+        return IN_MEMORY;
+    }
+    
+    @Override
+    public String evaluate(LeaveApplication application) {
+        DayPortion portion = application.getPortion();
+        if (portion != DayPortion.FULL_DAY && !application.getStartDate().equals(application.getEndDate())) {
+            return "Half-day and hourly leave must start and end on the same day";
+        }
+        if (portion == DayPortion.HOURS && (application.getHours() < 1 || application.getHours() > LeaveUnits.MAX_HOURS)) {
+            return "Hourly leave must be between 1 and " + LeaveUnits.MAX_HOURS + " hours";
+        }
+        return null;
+    }
+}
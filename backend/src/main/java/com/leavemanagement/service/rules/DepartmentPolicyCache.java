@@ -0,0 +1,86 @@
+package com.leavemanagement.service.rules;
+
+import com.leavemanagement.model.DepartmentLeavePolicy;
+import com.leavemanagement.repository.DepartmentLeavePolicyRepository;
+import com.leavemanagement.repository.LeaveBlackoutPeriodRepository;
+import com.leavemanagement.repository.UserRepository;
+import com.leavemanagement.security.TenantContext;
+import com.leavemanagement.service.cache.InvalidatableCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per tenant and department rule data (blackouts, coverage threshold, headcount), loaded with three
+ * queries and reused by every application until it expires or an admin changes the policy on any node.
+ */
+@Component
+public class DepartmentPolicyCache implements InvalidatableCache {
+    
+    public static final String NAME = "department-policy";
+    
+    @Autowired
+    private DepartmentLeavePolicyRepository departmentLeavePolicyRepository;
+    
+    @Autowired
+    private LeaveBlackoutPeriodRepository leaveBlackoutPeriodRepository;
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    @Value("${app.leave.rules.context-ttl-ms:60000}")
+    private long ttlMillis;
+    
+    private final Map<String, DepartmentPolicyContext> contexts = new ConcurrentHashMap<>();
+    
+    // Bumped by every invalidation, so a load that started before one is never cached after it
+    private final AtomicLong generation = new AtomicLong();
+    
+    public DepartmentPolicyContext get(String department) {
+        String key = tenantKey() + "/" + (department != null ? department : "");
+        long now = System.currentTimeMillis();
+        DepartmentPolicyContext context = contexts.get(key);
+        if (context == null || now - context.getLoadedAt() >= ttlMillis) {
+            long loadGeneration = generation.get();
+            DepartmentPolicyContext loaded = load(department, now);
+            contexts.compute(key, (k, current) -> generation.get() == loadGeneration ? loaded : current);
+            context = loaded;
+        }
+        return context;
+    }
+    
+    @Override
+    public String cacheName() {
+        return NAME;
+    }
+    
+    // Policy rows carry no version; any change drops the whole cache
+    @Override
+    public void invalidate(String key, long version) {
+        generation.incrementAndGet();
+        contexts.clear();
+    }
+    
+    private DepartmentPolicyContext load(String department, long now) {
+        Integer minCoveragePercent = null;
+        long headcount = 0;
+        if (department != null) {
+            minCoveragePercent = departmentLeavePolicyRepository.findByDepartment(department)
+                .map(DepartmentLeavePolicy::getMinCoveragePercent)
+                .orElse(null);
+            headcount = userRepository.countByDepartmentAndEnabledTrue(department);
+        }
+        return new DepartmentPolicyContext(department, headcount, minCoveragePercent,
+            List.copyOf(leaveBlackoutPeriodRepository.findUpcoming(department, LocalDate.now())), now);
+    }
+    
+    private static String tenantKey() {
+        String tenantId = TenantContext.get();
+        return tenantId != null ? tenantId : TenantContext.ROOT;
+    }
+}
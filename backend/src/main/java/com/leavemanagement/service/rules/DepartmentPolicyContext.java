@@ -0,0 +1,23 @@
+package com.leavemanagement.service.rules;
+
+import com.leavemanagement.model.LeaveBlackoutPeriod;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import java.util.List;
+
+// Snapshot of a department's rule data, shared by every application from that department until it expires
+@Getter
+@AllArgsConstructor
+public class DepartmentPolicyContext {
+    
+    private final String department;
+    
+    private final long headcount;
+    
+    // null when the department has no coverage requirement
+    private final Integer minCoveragePercent;
+    
+    private final List<LeaveBlackoutPeriod> blackouts;
+    
+    private final long loadedAt;
+}
@@ -0,0 +1,63 @@
+package com.leavemanagement.service.rules;
+
+import com.leavemanagement.model.Leave.DayPortion;
+import com.leavemanagement.model.Leave.LeaveType;
+import com.leavemanagement.model.LeaveUnits;
+import com.leavemanagement.model.User;
+import lombok.Getter;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.function.Function;
+
+@Getter
+public class LeaveApplication {
+    
+    private final User user;
+    
+    private final LocalDate startDate;
+    
+    private final LocalDate endDate;
+    
+    private final LeaveType leaveType;
+    
+    private final DayPortion portion;
+    
+    private final int hours;
+    
+    private final LocalDate today;
+    
+    @Getter(lombok.AccessLevel.NONE)
+    private final Function<String, DepartmentPolicyContext> contextLoader;
+    
+    @Getter(lombok.AccessLevel.NONE)
+    private DepartmentPolicyContext departmentContext;
+    
+    LeaveApplication(User user, LocalDate startDate, LocalDate endDate, LeaveType leaveType, DayPortion portion,
+                     int hours, LocalDate today, Function<String, DepartmentPolicyContext> contextLoader) {
+        this.user = user;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.leaveType = leaveType;
+        this.portion = portion;
+        this.hours = hours;
+        this.today = today;
+        this.contextLoader = contextLoader;
+    }
+    
+    public int getCalendarDays() {
+        return (int) ChronoUnit.DAYS.between(startDate, endDate) + 1;
+    }
+    
+    // Only meaningful once DateRangeRule and DayPortionRule have passed
+    public long getDurationMinutes() {
+        return LeaveUnits.durationMinutes(startDate, endDate, portion, hours);
+    }
+    
+    // Fetched on first use, so applications rejected by in-memory rules never touch the cache
+    public DepartmentPolicyContext getDepartmentContext() {
+        if (departmentContext == null) {
+            departmentContext = contextLoader.apply(user.getDepartment());
+        }
+        return departmentContext;
+    }
+}
@@ -0,0 +1,31 @@
+package com.leavemanagement.service.rules;
+
+import com.leavemanagement.model.LeaveUnits;
+import com.leavemanagement.service.LeaveEntitlementPolicy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+// The annual balance; leave types with their own entitlement are checked by LeaveTypeBalanceRule
+@Component
+public class LeaveBalanceRule implements LeaveRule {
+    
+    @Autowired
+    private LeaveEntitlementPolicy leaveEntitlementPolicy;
+    
+    @Override
+    public int cost() {
+        return IN_MEMORY + 2;
+    }
+    
+    @Override
+    public String evaluate(LeaveApplication application) {
+        if (leaveEntitlementPolicy.hasOwnBalance(application.getLeaveType())) {
+            return null;
+        }
+        long balance = application.getUser().getLeaveBalanceMinutes();
+        if (balance < application.getDurationMinutes()) {
+            return "Insufficient leave balance. Available: " + LeaveUnits.toDays(balance) + " days";
+        }
+        return null;
+    }
+}
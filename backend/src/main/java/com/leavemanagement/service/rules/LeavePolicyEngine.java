@@ -0,0 +1,57 @@
+package com.leavemanagement.service.rules;
+
+import com.leavemanagement.model.Leave.DayPortion;
+import com.leavemanagement.model.Leave.LeaveType;
+import com.leavemanagement.model.User;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Validates leave applications against every LeaveRule bean. The rule list is sorted by cost once at
+ * startup, and evaluation stops at the first violation, so a request that fails a date check never
+ * reaches the rules that load department data or query leaves. Add a rule by declaring a LeaveRule @Component.
+ */
+@Service
+public class LeavePolicyEngine {
+    
+    private static final Logger log = LoggerFactory.getLogger(LeavePolicyEngine.class);
+    
+    @Autowired
+    private List<LeaveRule> rules;
+    
+    @Autowired
+    private DepartmentPolicyCache departmentPolicyCache;
+    
+    private LeaveRule[] orderedRules;
+    
+    @PostConstruct
+    public void compile() {
+        orderedRules = rules.stream()
+            .sorted(Comparator.comparingInt(LeaveRule::cost))
+            .toArray(LeaveRule[]::new);
+        log.info("Leave policy rules: {}", Arrays.stream(orderedRules)
+            .map(rule -> rule.getClass().getSimpleName())
+            .collect(Collectors.joining(", ")));
+    }
+    
+    public void validate(User user, LocalDate startDate, LocalDate endDate, LeaveType leaveType,
+                         DayPortion portion, int hours) {
+        LeaveApplication application = new LeaveApplication(user, startDate, endDate, leaveType, portion, hours,
+            LocalDate.now(), departmentPolicyCache::get);
+        
+        for (LeaveRule rule : orderedRules) {
+            String violation = rule.evaluate(application);
+            if (violation != null) {
+                throw new RuntimeException(violation);
+            }
+        }
+    }
+}
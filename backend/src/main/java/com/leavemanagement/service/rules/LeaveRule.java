@@ -0,0 +1,19 @@
+package com.leavemanagement.service.rules;
+
+/**
+ * One leave policy check run by LeavePolicyEngine. Rules are ordered by cost, so checks on the
+ * request itself run before ones that need cached department data, and those before ones that query.
+ */
+public interface LeaveRule {
+    
+    int IN_MEMORY = 0;
+    
+    int CACHED = 10;
+    
+    int QUERY = 100;
+    
+    int cost();
+    
+    // Returns the violation message, or null if the application passes this rule
+    String evaluate(LeaveApplication application);
+}
@@ -0,0 +1,34 @@
+package com.leavemanagement.service.rules;
+
+import com.leavemanagement.model.LeaveUnits;
+import com.leavemanagement.service.LeaveEntitlementPolicy;
+import com.leavemanagement.service.LeaveTypeBalanceService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+@Component
+public class LeaveTypeBalanceRule implements LeaveRule {
+    
+    @Autowired
+    private LeaveEntitlementPolicy leaveEntitlementPolicy;
+    
+    @Autowired
+    private LeaveTypeBalanceService leaveTypeBalanceService;
+    
+    @Override
+    public int cost() {
+        return QUERY + 2;
+    }
+    
+    @Override
+    public String evaluate(LeaveApplication application) {
+        if (!leaveEntitlementPolicy.hasOwnBalance(application.getLeaveType())) {
+            return null;
+        }
+        long balance = leaveTypeBalanceService.getRemainingMinutes(application.getUser(), application.getLeaveType());
+        if (balance < application.getDurationMinutes()) {
+            return "Insufficient " + application.getLeaveType() + " balance. Available: " + LeaveUnits.toDays(balance) + " days";
+        }
+        return null;
+    }
+}
@@ -0,0 +1,27 @@
+package com.leavemanagement.service.rules;
+
+import com.leavemanagement.model.Leave.LeaveType;
+import java.util.EnumMap;
+import java.util.Map;
+
+final class LeaveTypeLimits {
+    
+    private LeaveTypeLimits() {
+    }
+    
+    // Parses "ANNUAL_LEAVE:15,CASUAL_LEAVE:3"; leave types that are not listed have no limit
+    static Map<LeaveType, Integer> parse(String spec) {
+        Map<LeaveType, Integer> limits = new EnumMap<>(LeaveType.class);
+        if (spec == null || spec.isBlank()) {
+            return limits;
+        }
+        for (String entry : spec.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid leave type limit: " + entry);
+            }
+            limits.put(LeaveType.valueOf(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+        }
+        return limits;
+    }
+}
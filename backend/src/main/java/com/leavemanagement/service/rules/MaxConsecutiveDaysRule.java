@@ -0,0 +1,35 @@
+package com.leavemanagement.service.rules;
+
+import com.leavemanagement.model.Leave.LeaveType;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.util.Map;
+
+@Component
+public class MaxConsecutiveDaysRule implements LeaveRule {
+    
+    @Value("${app.leave.rules.max-consecutive-days:}")
+    private String maxConsecutiveDays;
+    
+    private Map<LeaveType, Integer> limits;
+    
+    @PostConstruct
+    public void compile() {
+        limits = LeaveTypeLimits.parse(maxConsecutiveDays);
+    }
+    
+    @Override
+    public int cost() {
+        return IN_MEMORY + 1;
+    }
+    
+    @Override
+    public String evaluate(LeaveApplication application) {
+        Integer limit = limits.get(application.getLeaveType());
+        if (limit != null && application.getCalendarDays() > limit) {
+            return application.getLeaveType() + " can be taken for at most " + limit + " consecutive days";
+        }
+        return null;
+    }
+}
@@ -0,0 +1,36 @@
+package com.leavemanagement.service.rules;
+
+import com.leavemanagement.model.Leave.LeaveType;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+
+@Component
+public class NoticePeriodRule implements LeaveRule {
+    
+    @Value("${app.leave.rules.notice-days:}")
+    private String noticeDays;
+    
+    private Map<LeaveType, Integer> notice;
+    
+    @PostConstruct
+    public void compile() {
+        notice = LeaveTypeLimits.parse(noticeDays);
+    }
+    
+    @Override
+    public int cost() {
+        return IN_MEMORY + 1;
+    }
+    
+    @Override
+    public String evaluate(LeaveApplication application) {
+        Integer required = notice.get(application.getLeaveType());
+        if (required != null && ChronoUnit.DAYS.between(application.getToday(), application.getStartDate()) < required) {
+            return application.getLeaveType() + " must be requested at least " + required + " days in advance";
+        }
+        return null;
+    }
+}
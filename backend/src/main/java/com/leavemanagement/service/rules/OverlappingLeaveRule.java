@@ -0,0 +1,36 @@
+package com.leavemanagement.service.rules;
+
+import com.leavemanagement.model.Leave;
+import com.leavemanagement.model.Leave.DayPortion;
+import com.leavemanagement.repository.LeaveRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+@Component
+public class OverlappingLeaveRule implements LeaveRule {
+    
+    @Autowired
+    private LeaveRepository leaveRepository;
+    
+    @Override
+    public int cost() {
+        return QUERY;
+    }
+    
+    @Override
+    public String evaluate(LeaveApplication application) {
+        for (Leave existing : leaveRepository.findOverlappingLeaves(
+                application.getUser().getId(), application.getStartDate(), application.getEndDate())) {
+            // The morning and the afternoon of the same day can be booked separately
+            if (!isOtherHalf(existing.getPortion(), application.getPortion())) {
+                return "You already have a leave request for these dates";
+            }
+        }
+        return null;
+    }
+    
+    private static boolean isOtherHalf(DayPortion existing, DayPortion requested) {
+        return (existing == DayPortion.FIRST_HALF && requested == DayPortion.SECOND_HALF)
+            || (existing == DayPortion.SECOND_HALF && requested == DayPortion.FIRST_HALF);
+    }
+}
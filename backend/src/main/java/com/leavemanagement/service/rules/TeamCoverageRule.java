@@ -0,0 +1,66 @@
+package com.leavemanagement.service.rules;
+
+import com.leavemanagement.model.Leave.DayPortion;
+import com.leavemanagement.repository.LeaveRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Rejects leave that would leave fewer than the department's minimum share of people at work on any day.
+// Only full days count: someone on part-day leave is still at work that day.
+@Component
+public class TeamCoverageRule implements LeaveRule {
+    
+    @Autowired
+    private LeaveRepository leaveRepository;
+    
+    @Override
+    public int cost() {
+        return QUERY + 1;
+    }
+    
+    @Override
+    public String evaluate(LeaveApplication application) {
+        DepartmentPolicyContext context = application.getDepartmentContext();
+        if (context.getMinCoveragePercent() == null || context.getHeadcount() == 0
+                || application.getPortion() != DayPortion.FULL_DAY) {
+            return null;
+        }
+        
+        LocalDate start = application.getStartDate();
+        int days = application.getCalendarDays();
+        // One query for the whole range; each person's days away are merged first, so overlapping or
+        // back-to-back leaves of the same person count them once
+        Map<Long, BitSet> daysAwayByUser = new HashMap<>();
+        List<Object[]> ranges = leaveRepository.findApprovedFullDayRangesInDepartment(
+            context.getDepartment(), application.getUser().getId(), start, application.getEndDate());
+        for (Object[] range : ranges) {
+            LocalDate from = (LocalDate) range[1];
+            LocalDate to = (LocalDate) range[2];
+            int first = (int) Math.max(0, ChronoUnit.DAYS.between(start, from));
+            int last = (int) Math.min(days - 1, ChronoUnit.DAYS.between(start, to));
+            daysAwayByUser.computeIfAbsent((Long) range[0], id -> new BitSet(days)).set(first, last + 1);
+        }
+        
+        int[] away = new int[days];
+        for (BitSet daysAway : daysAwayByUser.values()) {
+            for (int day = daysAway.nextSetBit(0); day >= 0; day = daysAway.nextSetBit(day + 1)) {
+                away[day]++;
+            }
+        }
+        
+        for (int day = 0; day < days; day++) {
+            long atWork = context.getHeadcount() - away[day] - 1;
+            if (atWork * 100 < (long) context.getMinCoveragePercent() * context.getHeadcount()) {
+                return "Too many people in " + context.getDepartment() + " are on leave on " + start.plusDays(day) +
+                    "; at least " + context.getMinCoveragePercent() + "% of the team must be available";
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,145 @@
+package com.leavemanagement.service.trace;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Timings of the HTTP request running on this thread: SQL statements executed through Hibernate,
+ * and named phases such as JWT authentication, BCrypt and response mapping. RequestTraceFilter
+ * starts and ends it; instrumented code calls the static methods, which do nothing when no
+ * request is being traced (scheduled jobs, import workers, tracing disabled).
+ */
+public final class RequestTrace {
+
+    public static final String JWT_FILTER = "jwtAuthenticationFilter";
+    public static final String BCRYPT = "bcrypt";
+    public static final String MAP_TO_RESPONSE = "mapToResponse";
+    public static final String SEARCH = "leaveSearch";
+
+    private static final ThreadLocal<RequestTrace> CURRENT = new ThreadLocal<>();
+
+    private final LocalDateTime startedAt = LocalDateTime.now();
+
+    private final long startNanos = System.nanoTime();
+
+    private String tenantId;
+
+    private String username;
+
+    private int sqlCount;
+
+    private long dbNanos;
+
+    // SQL last prepared by Hibernate; the executions that follow are attributed to it
+    private String currentSql;
+
+    private long executeStartNanos;
+
+    // SQL text -> {executions, total nanos, max nanos}
+    private final Map<String, long[]> statements = new HashMap<>();
+
+    // Phase name -> {calls, nanos}
+    private final Map<String, long[]> phases = new LinkedHashMap<>();
+
+    private RequestTrace() {
+    }
+
+    static RequestTrace start() {
+        RequestTrace trace = new RequestTrace();
+        CURRENT.set(trace);
+        return trace;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    // Returns a start time for stopTimer, or 0 when this thread is not tracing
+    public static long startTimer() {
+        return CURRENT.get() != null ? System.nanoTime() : 0;
+    }
+
+    public static void stopTimer(String phase, long startNanos) {
+        if (startNanos == 0) {
+            return;
+        }
+        RequestTrace trace = CURRENT.get();
+        if (trace != null) {
+            long[] timing = trace.phases.computeIfAbsent(phase, p -> new long[2]);
+            timing[0]++;
+            timing[1] += System.nanoTime() - startNanos;
+        }
+    }
+
+    public static void identify(String tenantId, String username) {
+        RequestTrace trace = CURRENT.get();
+        if (trace != null) {
+            trace.tenantId = tenantId;
+            trace.username = username;
+        }
+    }
+
+    static void statementPrepared(String sql) {
+        RequestTrace trace = CURRENT.get();
+        if (trace != null) {
+            trace.currentSql = sql;
+        }
+    }
+
+    static void executeStarted() {
+        RequestTrace trace = CURRENT.get();
+        if (trace != null) {
+            trace.executeStartNanos = System.nanoTime();
+        }
+    }
+
+    static void executeEnded() {
+        RequestTrace trace = CURRENT.get();
+        if (trace == null || trace.executeStartNanos == 0) {
+            return;
+        }
+        long nanos = System.nanoTime() - trace.executeStartNanos;
+        trace.executeStartNanos = 0;
+        trace.sqlCount++;
+        trace.dbNanos += nanos;
+        long[] timing = trace.statements.computeIfAbsent(
+            trace.currentSql != null ? trace.currentSql : "<unknown>", sql -> new long[3]);
+        timing[0]++;
+        timing[1] += nanos;
+        timing[2] = Math.max(timing[2], nanos);
+    }
+
+    long elapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    String getTenantId() {
+        return tenantId;
+    }
+
+    String getUsername() {
+        return username;
+    }
+
+    int getSqlCount() {
+        return sqlCount;
+    }
+
+    long getDbNanos() {
+        return dbNanos;
+    }
+
+    Map<String, long[]> getStatements() {
+        return statements;
+    }
+
+    Map<String, long[]> getPhases() {
+        return phases;
+    }
+}
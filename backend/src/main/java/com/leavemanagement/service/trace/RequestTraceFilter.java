@@ -0,0 +1,51 @@
+package com.leavemanagement.service.trace;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import java.io.IOException;
+
+// Outermost filter, so the trace also covers the security chain; only requests over the threshold cost more than a clock read
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestTraceFilter extends OncePerRequestFilter {
+
+    @Autowired
+    private SlowRequestLog slowRequestLog;
+
+    @Value("${app.trace.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.trace.slow-request-ms:1000}")
+    private long slowRequestMillis;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (!enabled) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        RequestTrace trace = RequestTrace.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestTrace.end();
+            long elapsedNanos = trace.elapsedNanos();
+            if (elapsedNanos >= slowRequestMillis * 1_000_000) {
+                Object endpoint = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                slowRequestLog.record(trace, request.getMethod(), endpoint != null ? endpoint.toString() : null,
+                    request.getRequestURI(), response.getStatus(), elapsedNanos);
+            }
+        }
+    }
+}
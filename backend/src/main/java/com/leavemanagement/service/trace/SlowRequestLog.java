@@ -0,0 +1,115 @@
+package com.leavemanagement.service.trace;
+
+import com.leavemanagement.dto.AdminDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Requests slower than app.trace.slow-request-ms: each one is logged as a single JSON line, counted
+ * in the http.slow_requests metric by endpoint, and kept among the last app.trace.recent-capacity
+ * for GET /api/admin/traces/slow. Nothing here runs for requests under the threshold.
+ */
+@Component
+public class SlowRequestLog {
+
+    private static final Logger log = LoggerFactory.getLogger(SlowRequestLog.class);
+
+    private static final int MAX_SQL_LENGTH = 1000;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.trace.recent-capacity:100}")
+    private int capacity;
+
+    @Value("${app.trace.top-statements:5}")
+    private int topStatements;
+
+    private final Deque<AdminDTO.SlowRequestTrace> recent = new ArrayDeque<>();
+
+    void record(RequestTrace trace, String method, String endpoint, String path, int status, long elapsedNanos) {
+        AdminDTO.SlowRequestTrace slow = new AdminDTO.SlowRequestTrace(
+            trace.getStartedAt(),
+            method,
+            endpoint,
+            path,
+            status,
+            trace.getTenantId(),
+            trace.getUsername(),
+            millis(elapsedNanos),
+            trace.getSqlCount(),
+            millis(trace.getDbNanos()),
+            phases(trace),
+            slowestStatements(trace)
+        );
+
+        meterRegistry.counter("http.slow_requests", "endpoint", endpoint != null ? endpoint : "unmapped").increment();
+        try {
+            log.warn(objectMapper.writeValueAsString(slow));
+        } catch (Exception e) {
+            log.warn("Slow request {} {} took {} ms ({} statements)", method, path, slow.getDurationMillis(), slow.getSqlCount());
+        }
+
+        synchronized (recent) {
+            recent.addFirst(slow);
+            while (recent.size() > capacity) {
+                recent.removeLast();
+            }
+        }
+    }
+
+    // Most recent first
+    // tenantId null returns every tenant's requests
+    public List<AdminDTO.SlowRequestTrace> getRecent(int limit, String tenantId) {
+        synchronized (recent) {
+            List<AdminDTO.SlowRequestTrace> traces = new ArrayList<>(Math.min(Math.max(limit, 0), recent.size()));
+            Iterator<AdminDTO.SlowRequestTrace> iterator = recent.iterator();
+            while (iterator.hasNext() && traces.size() < limit) {
+                AdminDTO.SlowRequestTrace trace = iterator.next();
+                if (tenantId == null || tenantId.equals(trace.getTenantId())) {
+                    traces.add(trace);
+                }
+            }
+            return traces;
+        }
+    }
+
+    private List<AdminDTO.PhaseTiming> phases(RequestTrace trace) {
+        List<AdminDTO.PhaseTiming> phases = new ArrayList<>(trace.getPhases().size());
+        for (Map.Entry<String, long[]> phase : trace.getPhases().entrySet()) {
+            phases.add(new AdminDTO.PhaseTiming(phase.getKey(), phase.getValue()[0], millis(phase.getValue()[1])));
+        }
+        return phases;
+    }
+
+    private List<AdminDTO.StatementTiming> slowestStatements(RequestTrace trace) {
+        return trace.getStatements().entrySet().stream()
+            .sorted((a, b) -> Long.compare(b.getValue()[1], a.getValue()[1]))
+            .limit(topStatements)
+            .map(statement -> new AdminDTO.StatementTiming(
+                statement.getKey().length() > MAX_SQL_LENGTH
+                    ? statement.getKey().substring(0, MAX_SQL_LENGTH) + "..." : statement.getKey(),
+                statement.getValue()[0],
+                millis(statement.getValue()[1]),
+                millis(statement.getValue()[2])))
+            .toList();
+    }
+
+    private static double millis(long nanos) {
+        return Math.round(nanos / 10_000.0) / 100.0;
+    }
+}
@@ -0,0 +1,27 @@
+package com.leavemanagement.service.trace;
+
+import org.hibernate.SessionEventListener;
+
+// Created by Hibernate for each session; times statement and batch executions into the request trace
+public class TracingSessionEventListener implements SessionEventListener {
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        RequestTrace.executeStarted();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        RequestTrace.executeEnded();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        RequestTrace.executeStarted();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        RequestTrace.executeEnded();
+    }
+}
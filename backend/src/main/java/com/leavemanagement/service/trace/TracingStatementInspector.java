@@ -0,0 +1,13 @@
+package com.leavemanagement.service.trace;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// Sees every statement Hibernate prepares, lazy loads included, and names it for the timings that follow
+public class TracingStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        RequestTrace.statementPrepared(sql);
+        return sql;
+    }
+}
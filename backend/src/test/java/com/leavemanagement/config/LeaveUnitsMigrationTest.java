@@ -0,0 +1,96 @@
+package com.leavemanagement.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LeaveUnitsMigrationTest {
+    
+    private JdbcTemplate jdbcTemplate;
+    
+    private LeaveUnitsMigration migration;
+    
+    // The schema as Hibernate leaves it on an old database: the new minute columns next to the old day columns
+    @BeforeEach
+    void createOldSchema() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+            "jdbc:h2:mem:units-migration;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", ""));
+        jdbcTemplate.execute("CREATE TABLE users (id BIGINT PRIMARY KEY, leave_balance DOUBLE, " +
+            "leave_balance_minutes BIGINT NOT NULL DEFAULT 0)");
+        jdbcTemplate.execute("CREATE TABLE leaves (id BIGINT PRIMARY KEY, number_of_days INT, " +
+            "duration_minutes BIGINT NOT NULL DEFAULT 0, portion VARCHAR(16))");
+        jdbcTemplate.execute("CREATE TABLE leaves_archive (id BIGINT PRIMARY KEY, number_of_days INT, " +
+            "duration_minutes BIGINT NOT NULL DEFAULT 0, portion VARCHAR(16))");
+        jdbcTemplate.execute("CREATE TABLE leave_audit_log (id BIGINT PRIMARY KEY, balance_delta DOUBLE, " +
+            "balance_delta_minutes BIGINT NOT NULL DEFAULT 0)");
+        
+        jdbcTemplate.update("INSERT INTO users (id, leave_balance) VALUES (1, 17.5), (2, 0.3333)");
+        jdbcTemplate.update("INSERT INTO leaves (id, number_of_days) VALUES (10, 3)");
+        jdbcTemplate.update("INSERT INTO leaves_archive (id, number_of_days) VALUES (20, 1)");
+        jdbcTemplate.update("INSERT INTO leave_audit_log (id, balance_delta) VALUES (30, -2.5)");
+        
+        migration = new LeaveUnitsMigration();
+        ReflectionTestUtils.setField(migration, "jdbcTemplate", jdbcTemplate);
+    }
+    
+    @AfterEach
+    void dropSchema() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+    }
+    
+    @Test
+    void convertsDaysToMinutesAndDropsTheOldColumns() {
+        migration.migrate();
+        
+        assertThat(jdbcTemplate.queryForObject("SELECT leave_balance_minutes FROM users WHERE id = 1", Long.class)).isEqualTo(8400);
+        assertThat(jdbcTemplate.queryForObject("SELECT leave_balance_minutes FROM users WHERE id = 2", Long.class)).isEqualTo(160);
+        assertThat(jdbcTemplate.queryForMap("SELECT duration_minutes, portion FROM leaves WHERE id = 10"))
+            .containsEntry("duration_minutes", 1440L).containsEntry("portion", "FULL_DAY");
+        assertThat(jdbcTemplate.queryForObject("SELECT duration_minutes FROM leaves_archive WHERE id = 20", Long.class)).isEqualTo(480);
+        assertThat(jdbcTemplate.queryForObject("SELECT balance_delta_minutes FROM leave_audit_log WHERE id = 30", Long.class)).isEqualTo(-1200);
+        
+        assertThat(columnCount("users", "leave_balance")).isZero();
+        assertThat(columnCount("leaves", "number_of_days")).isZero();
+        assertThat(columnCount("leaves_archive", "number_of_days")).isZero();
+        assertThat(columnCount("leave_audit_log", "balance_delta")).isZero();
+    }
+    
+    @Test
+    void runningAgainLeavesMigratedRowsAlone() {
+        migration.migrate();
+        // Written after the migration, in minutes: a half-day leave and a deduction
+        jdbcTemplate.update("UPDATE leaves SET duration_minutes = 240, portion = 'FIRST_HALF' WHERE id = 10");
+        jdbcTemplate.update("UPDATE users SET leave_balance_minutes = 8160 WHERE id = 1");
+        
+        migration.migrate();
+        
+        assertThat(jdbcTemplate.queryForMap("SELECT duration_minutes, portion FROM leaves WHERE id = 10"))
+            .containsEntry("duration_minutes", 240L).containsEntry("portion", "FIRST_HALF");
+        assertThat(jdbcTemplate.queryForObject("SELECT leave_balance_minutes FROM users WHERE id = 1", Long.class)).isEqualTo(8160);
+    }
+    
+    @Test
+    void completesARunInterruptedAfterTheFirstTable() {
+        jdbcTemplate.update("UPDATE users SET leave_balance_minutes = ROUND(leave_balance * 480)");
+        jdbcTemplate.execute("ALTER TABLE users DROP COLUMN leave_balance");
+        jdbcTemplate.update("UPDATE users SET leave_balance_minutes = 9000 WHERE id = 1");
+        
+        migration.migrate();
+        
+        assertThat(jdbcTemplate.queryForObject("SELECT leave_balance_minutes FROM users WHERE id = 1", Long.class)).isEqualTo(9000);
+        assertThat(jdbcTemplate.queryForObject("SELECT duration_minutes FROM leaves WHERE id = 10", Long.class)).isEqualTo(1440);
+        assertThat(columnCount("leave_audit_log", "balance_delta")).isZero();
+    }
+    
+    private int columnCount(String table, String column) {
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+            "SELECT COUNT(*) AS n FROM information_schema.columns WHERE table_name = ? AND column_name = ?", table, column);
+        return ((Number) row.get("n")).intValue();
+    }
+}
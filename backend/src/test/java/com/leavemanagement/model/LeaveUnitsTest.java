@@ -0,0 +1,68 @@
+package com.leavemanagement.model;
+
+import com.leavemanagement.model.Leave.DayPortion;
+import org.junit.jupiter.api.Test;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LeaveUnitsTest {
+    
+    private static final LocalDate MONDAY = LocalDate.of(2026, 10, 19);
+    
+    @Test
+    void parsesWholeAndFractionalDays() {
+        assertThat(LeaveUnits.parseDays("20")).isEqualTo(9600);
+        assertThat(LeaveUnits.parseDays(" 2.5 ")).isEqualTo(1200);
+        assertThat(LeaveUnits.parseDays("0.125")).isEqualTo(60);
+    }
+    
+    @Test
+    void roundsConfiguredDaysHalfUpToTheMinute() {
+        // 0.001 days = 0.48 minutes, 0.002 days = 0.96 minutes, 0.003125 days = 1.5 minutes
+        assertThat(LeaveUnits.parseDays("0.001")).isEqualTo(0);
+        assertThat(LeaveUnits.parseDays("0.002")).isEqualTo(1);
+        assertThat(LeaveUnits.parseDays("0.003125")).isEqualTo(2);
+        assertThat(LeaveUnits.parseDays("-0.003125")).isEqualTo(-2);
+    }
+    
+    @Test
+    void rejectsNonNumericDays() {
+        assertThatThrownBy(() -> LeaveUnits.parseDays("twenty")).isInstanceOf(NumberFormatException.class);
+    }
+    
+    @Test
+    void chargesFullDaysInclusiveOfBothEnds() {
+        assertThat(LeaveUnits.durationMinutes(MONDAY, MONDAY, DayPortion.FULL_DAY, 0)).isEqualTo(480);
+        assertThat(LeaveUnits.durationMinutes(MONDAY, MONDAY.plusDays(4), DayPortion.FULL_DAY, 0)).isEqualTo(5 * 480);
+    }
+    
+    @Test
+    void chargesHalfADayForEitherHalf() {
+        assertThat(LeaveUnits.durationMinutes(MONDAY, MONDAY, DayPortion.FIRST_HALF, 0)).isEqualTo(240);
+        assertThat(LeaveUnits.durationMinutes(MONDAY, MONDAY, DayPortion.SECOND_HALF, 0)).isEqualTo(240);
+        assertThat(LeaveUnits.durationMinutes(MONDAY, MONDAY, DayPortion.FIRST_HALF, 0)
+            + LeaveUnits.durationMinutes(MONDAY, MONDAY, DayPortion.SECOND_HALF, 0))
+            .isEqualTo(LeaveUnits.durationMinutes(MONDAY, MONDAY, DayPortion.FULL_DAY, 0));
+    }
+    
+    @Test
+    void chargesHourlyLeaveByTheHour() {
+        assertThat(LeaveUnits.durationMinutes(MONDAY, MONDAY, DayPortion.HOURS, 1)).isEqualTo(60);
+        assertThat(LeaveUnits.durationMinutes(MONDAY, MONDAY, DayPortion.HOURS, LeaveUnits.MAX_HOURS)).isEqualTo(420);
+    }
+    
+    @Test
+    void repeatedDeductionsAndRestorationsAreExact() {
+        long balance = LeaveUnits.parseDays("20");
+        long halfDay = LeaveUnits.durationMinutes(MONDAY, MONDAY, DayPortion.FIRST_HALF, 0);
+        long oneHour = LeaveUnits.durationMinutes(MONDAY, MONDAY, DayPortion.HOURS, 1);
+        for (int i = 0; i < 10_000; i++) {
+            balance -= halfDay + oneHour;
+            balance += halfDay + oneHour;
+        }
+        assertThat(balance).isEqualTo(9600);
+        assertThat(LeaveUnits.toDays(balance - halfDay - 3 * oneHour)).isEqualTo(19.125);
+    }
+}
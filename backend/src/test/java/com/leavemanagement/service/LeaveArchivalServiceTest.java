@@ -0,0 +1,31 @@
+package com.leavemanagement.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LeaveArchivalServiceTest {
+    
+    @Test
+    void usesHorizonWhenItIsBeforeTheLeaveYear() {
+        LeaveArchivalService service = service(365);
+        
+        assertThat(service.archiveCutoff(LocalDate.of(2026, 10, 19))).isEqualTo(LocalDate.of(2025, 10, 19));
+    }
+    
+    @Test
+    void neverArchivesInsideTheCurrentLeaveYear() {
+        LeaveArchivalService service = service(30);
+        
+        assertThat(service.archiveCutoff(LocalDate.of(2026, 10, 19))).isEqualTo(LocalDate.of(2026, 1, 1));
+        assertThat(service.archiveCutoff(LocalDate.of(2026, 1, 20))).isEqualTo(LocalDate.of(2025, 12, 21));
+    }
+    
+    private LeaveArchivalService service(int horizonDays) {
+        LeaveArchivalService service = new LeaveArchivalService();
+        ReflectionTestUtils.setField(service, "horizonDays", horizonDays);
+        return service;
+    }
+}
@@ -0,0 +1,72 @@
+package com.leavemanagement.service;
+
+import com.leavemanagement.model.Leave.LeaveType;
+import com.leavemanagement.model.LeaveUnits;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LeaveEntitlementPolicyTest {
+    
+    private static final long ENTITLEMENT = LeaveUnits.ofDays(20);
+    
+    private static final long CAP = LeaveUnits.ofDays(5);
+    
+    @Test
+    void carriesUnusedBalanceUpToTheCap() {
+        LeaveEntitlementPolicy policy = policy("", "");
+        
+        assertThat(policy.carryOverMinutes(LeaveUnits.ofDays(3), LocalDate.of(2020, 6, 1), 2027, ENTITLEMENT, CAP))
+            .isEqualTo(LeaveUnits.ofDays(3));
+        assertThat(policy.carryOverMinutes(LeaveUnits.ofDays(12), null, 2027, ENTITLEMENT, CAP)).isEqualTo(CAP);
+    }
+    
+    @Test
+    void takesOffTheMonthsBeforeJoiningInTheClosingYear() {
+        LeaveEntitlementPolicy policy = policy("", "");
+        
+        // Joined in October: 3 of 12 months = 5 days earned, so 15 of the 20 granted days are taken off
+        assertThat(policy.carryOverMinutes(LeaveUnits.ofDays(18), LocalDate.of(2026, 10, 19), 2027, ENTITLEMENT, CAP))
+            .isEqualTo(LeaveUnits.ofDays(3));
+        assertThat(policy.carryOverMinutes(LeaveUnits.ofDays(10), LocalDate.of(2026, 10, 19), 2027, ENTITLEMENT, CAP))
+            .isZero();
+    }
+    
+    @Test
+    void roundsProRatedEntitlementToHalfDays() {
+        LeaveEntitlementPolicy policy = policy("", "");
+        
+        // 20 days * 7/12 = 11.67 days, rounded to 11.5
+        assertThat(policy.proRatedEntitlement(LocalDate.of(2026, 6, 1), ENTITLEMENT)).isEqualTo(LeaveUnits.parseDays("11.5"));
+        assertThat(policy.proRatedEntitlement(LocalDate.of(2026, 1, 31), ENTITLEMENT)).isEqualTo(ENTITLEMENT);
+    }
+    
+    @Test
+    void parsesPerTypeEntitlementsAndCaps() {
+        LeaveEntitlementPolicy policy = policy("SICK_LEAVE:10, CASUAL_LEAVE:2.5", "CASUAL_LEAVE:1");
+        
+        assertThat(policy.hasOwnBalance(LeaveType.SICK_LEAVE)).isTrue();
+        assertThat(policy.hasOwnBalance(LeaveType.ANNUAL_LEAVE)).isFalse();
+        assertThat(policy.getEntitlementMinutes(LeaveType.CASUAL_LEAVE)).isEqualTo(1200);
+        assertThat(policy.getCarryOverCapMinutes(LeaveType.CASUAL_LEAVE)).isEqualTo(480);
+        assertThat(policy.getCarryOverCapMinutes(LeaveType.SICK_LEAVE)).isZero();
+    }
+    
+    @Test
+    void rejectsMalformedEntries() {
+        assertThatThrownBy(() -> policy("SICK_LEAVE=10", "")).isInstanceOf(IllegalArgumentException.class);
+    }
+    
+    private static LeaveEntitlementPolicy policy(String typeEntitlements, String typeCarryOverCaps) {
+        LeaveEntitlementPolicy policy = new LeaveEntitlementPolicy();
+        ReflectionTestUtils.setField(policy, "annualEntitlement", "20");
+        ReflectionTestUtils.setField(policy, "carryOverCap", "5");
+        ReflectionTestUtils.setField(policy, "typeEntitlements", typeEntitlements);
+        ReflectionTestUtils.setField(policy, "typeCarryOverCaps", typeCarryOverCaps);
+        policy.init();
+        return policy;
+    }
+}
@@ -0,0 +1,161 @@
+package com.leavemanagement.service;
+
+import com.leavemanagement.dto.LeaveDTO;
+import com.leavemanagement.model.Leave.LeaveStatus;
+import com.leavemanagement.model.User;
+import com.leavemanagement.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LeaveSearchServiceTest {
+    
+    private final NamedParameterJdbcTemplate jdbcTemplate = mock(NamedParameterJdbcTemplate.class);
+    
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    
+    private LeaveSearchService service;
+    
+    // id, status, leave_type, department, newest first as the match query returns them
+    private final List<Object[]> matchRows = new ArrayList<>(List.of(
+        new Object[] {9L, "PENDING", "ANNUAL_LEAVE", "Engineering"},
+        new Object[] {8L, "APPROVED", "ANNUAL_LEAVE", "engineering"},
+        new Object[] {7L, "PENDING", "SICK_LEAVE", "Finance"},
+        new Object[] {6L, "PENDING", "ANNUAL_LEAVE", null},
+        new Object[] {5L, "REJECTED", "CASUAL_LEAVE", "Engineering"}));
+    
+    @BeforeEach
+    void setUp() throws SQLException {
+        service = new LeaveSearchService();
+        ReflectionTestUtils.setField(service, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(service, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.setField(service, "maxMatches", 100);
+        
+        when(jdbcTemplate.query(startsWith("SELECT l.id, l.status"), any(MapSqlParameterSource.class), any(RowMapper.class)))
+            .thenAnswer(invocation -> {
+                RowMapper<?> mapper = invocation.getArgument(2);
+                List<Object> rows = new ArrayList<>();
+                for (Object[] row : matchRows) {
+                    ResultSet rs = mock(ResultSet.class);
+                    when(rs.getLong("id")).thenReturn((Long) row[0]);
+                    when(rs.getString("status")).thenReturn((String) row[1]);
+                    when(rs.getString("leave_type")).thenReturn((String) row[2]);
+                    when(rs.getString("department")).thenReturn((String) row[3]);
+                    rows.add(mapper.mapRow(rs, rows.size()));
+                }
+                return rows;
+            });
+        // The page query returns rows in index order; the service must restore the match order
+        when(jdbcTemplate.query(startsWith("SELECT l.id, l.user_id"), any(MapSqlParameterSource.class), any(RowMapper.class)))
+            .thenAnswer(invocation -> {
+                MapSqlParameterSource params = invocation.getArgument(1);
+                List<LeaveDTO.LeaveResponse> hits = new ArrayList<>();
+                for (Object id : (List<?>) params.getValue("ids")) {
+                    LeaveDTO.LeaveResponse hit = new LeaveDTO.LeaveResponse();
+                    hit.setId((Long) id);
+                    hits.add(0, hit);
+                }
+                return hits;
+            });
+    }
+    
+    @Test
+    void runsTheFullTextMatchOnceForHitsCountAndFacets() {
+        LeaveDTO.LeaveSearchResponse response = service.search("mgr", "family trip", LeaveStatus.PENDING, null, null, 0, 2);
+        
+        verify(jdbcTemplate, times(1)).query(startsWith("SELECT l.id, l.status"), any(MapSqlParameterSource.class), any(RowMapper.class));
+        verify(jdbcTemplate, times(0)).queryForObject(anyString(), any(MapSqlParameterSource.class), any(Class.class));
+        assertThat(response.getTotalHits()).isEqualTo(3);
+        assertThat(response.getHits()).extracting(LeaveDTO.LeaveResponse::getId).containsExactly(9L, 7L);
+    }
+    
+    @Test
+    void countsEachFacetWithoutItsOwnFilter() {
+        LeaveDTO.LeaveSearchResponse response = service.search("mgr", "trip", LeaveStatus.PENDING, null, "ENGINEERING", 0, 20);
+        
+        assertThat(response.getTotalHits()).isEqualTo(1);
+        Map<String, Map<String, Long>> facets = response.getFacets();
+        // Status ignores the status filter: the three Engineering matches, in any case
+        assertThat(facets.get("status")).containsOnly(Map.entry("PENDING", 1L), Map.entry("APPROVED", 1L),
+            Map.entry("REJECTED", 1L));
+        assertThat(facets.get("leaveType")).containsExactly(Map.entry("ANNUAL_LEAVE", 1L));
+        // Department ignores the department filter
+        assertThat(facets.get("department")).containsOnly(Map.entry("", 1L), Map.entry("Engineering", 1L),
+            Map.entry("Finance", 1L));
+    }
+    
+    @Test
+    void countsDepartmentsDifferingOnlyInCaseTogether() {
+        LeaveDTO.LeaveSearchResponse response = service.search("mgr", "trip", null, null, null, 0, 20);
+        
+        assertThat(response.getFacets().get("department")).containsExactly(Map.entry("Engineering", 3L),
+            Map.entry("", 1L), Map.entry("Finance", 1L));
+    }
+    
+    @Test
+    void pagesThroughTheFilteredMatches() {
+        LeaveDTO.LeaveSearchResponse response = service.search("mgr", "trip", null, null, null, 2, 2);
+        
+        assertThat(response.getTotalHits()).isEqualTo(5);
+        assertThat(response.getHits()).extracting(LeaveDTO.LeaveResponse::getId).containsExactly(5L);
+    }
+    
+    @Test
+    void rejectsMatchSetsAboveTheLimit() {
+        ReflectionTestUtils.setField(service, "maxMatches", 4);
+        
+        assertThatThrownBy(() -> service.search("mgr", "trip", null, null, null, 0, 20))
+            .hasMessageContaining("more than 4");
+    }
+    
+    @Test
+    void scopesMatchesToTheManagersReportingLine() {
+        UserRepository userRepository = mock(UserRepository.class);
+        ApprovalDelegationIndex approvalDelegationIndex = mock(ApprovalDelegationIndex.class);
+        User manager = new User();
+        manager.setId(3L);
+        when(userRepository.findByUsername("mgr")).thenReturn(Optional.of(manager));
+        when(approvalDelegationIndex.approverScope(3L)).thenReturn(Set.of(3L, 4L));
+        ReflectionTestUtils.setField(service, "userRepository", userRepository);
+        ReflectionTestUtils.setField(service, "approvalDelegationIndex", approvalDelegationIndex);
+        ReflectionTestUtils.setField(service, "scopeToHierarchy", true);
+        
+        service.search("mgr", "trip", null, null, null, 0, 20);
+        
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<MapSqlParameterSource> params = ArgumentCaptor.forClass(MapSqlParameterSource.class);
+        verify(jdbcTemplate, times(2)).query(sql.capture(), params.capture(), any(RowMapper.class));
+        assertThat(sql.getAllValues().get(0)).contains("user_hierarchy").contains("l.escalated_to IN (:approvers)");
+        assertThat(params.getAllValues().get(0).getValue("approvers")).isEqualTo(Set.of(3L, 4L));
+        assertThat(params.getAllValues().get(0).getValue("self")).isEqualTo(3L);
+    }
+    
+    @Test
+    void recordsSearchLatency() {
+        service.search("mgr", "trip", null, null, null, 0, 20);
+        
+        assertThat(meterRegistry.get("leave.search").tag("text", "true").timer().count()).isEqualTo(1);
+    }
+}
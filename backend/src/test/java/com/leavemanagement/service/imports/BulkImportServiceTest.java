@@ -0,0 +1,65 @@
+package com.leavemanagement.service.imports;
+
+import com.leavemanagement.security.TenantContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BulkImportServiceTest {
+    
+    private final BulkImportService service = new BulkImportService();
+    
+    @AfterEach
+    void clearTenant() {
+        TenantContext.clear();
+    }
+    
+    @Test
+    void writesRowErrorsInFileOrderWithQuotesEscaped() {
+        ImportJob job = job("tenant-a", 100);
+        // Chunk errors are recorded after the parse errors of later rows
+        job.rowFailed(3, "Unknown role EMP\"X");
+        job.rowFailed(1, "Username already exists");
+        job.rowFailed(2, "Invalid email format, check the domain");
+    
+        TenantContext.set("tenant-a");
+        assertThat(service.getErrorsCsv(job.getId())).isEqualTo(
+            "row,error\n" +
+            "1,\"Username already exists\"\n" +
+            "2,\"Invalid email format, check the domain\"\n" +
+            "3,\"Unknown role EMP\"\"X\"\n");
+    }
+    
+    @Test
+    void keepsErrorsUpToTheCapAndFlagsTheRest() {
+        ImportJob job = job("tenant-a", 2);
+        for (long row = 1; row <= 5; row++) {
+            job.rowFailed(row, "Email already exists");
+        }
+    
+        TenantContext.set("tenant-a");
+        assertThat(service.getErrorsCsv(job.getId()).lines()).hasSize(3);
+        assertThat(job.toResponse().getRowsFailed()).isEqualTo(5);
+        assertThat(job.toResponse().getErrorsTruncated()).isTrue();
+    }
+    
+    @Test
+    void hidesTheErrorsOfAnotherTenantsImport() {
+        ImportJob job = job("tenant-a", 100);
+        job.rowFailed(1, "Username already exists");
+    
+        TenantContext.set("tenant-b");
+        assertThatThrownBy(() -> service.getErrorsCsv(job.getId())).hasMessage("Import job not found");
+    }
+    
+    @SuppressWarnings("unchecked")
+    private ImportJob job(String tenantId, int maxErrors) {
+        ImportJob job = new ImportJob("job-" + tenantId, "users", tenantId, "users.csv", maxErrors);
+        ((Map<String, ImportJob>) ReflectionTestUtils.getField(service, "jobs")).put(job.getId(), job);
+        return job;
+    }
+}
@@ -0,0 +1,76 @@
+package com.leavemanagement.service.imports;
+
+import org.junit.jupiter.api.Test;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvReaderTest {
+    
+    @Test
+    void readsQuotedFieldsWithCommasAndDoubledQuotes() throws IOException {
+        CsvReader reader = reader("name,comment\n\"Doe, Jane\",\"said \"\"hi\"\"\"\n\"\",plain\n");
+    
+        assertThat(reader.header()).containsExactly("name", "comment");
+        assertThat(reader.next()).containsExactly("Doe, Jane", "said \"hi\"");
+        assertThat(reader.next()).containsExactly("", "plain");
+        assertThat(reader.next()).isNull();
+    }
+    
+    @Test
+    void keepsLineBreaksInsideQuotesAndCountsRecordsNotLines() throws IOException {
+        CsvReader reader = reader("a,b\r\n1,\"first line\r\nsecond line\nthird\"\r\n2,x\r\n");
+        reader.header();
+    
+        assertThat(reader.next()).containsExactly("1", "first line\r\nsecond line\nthird");
+        assertThat(reader.getRecordNumber()).isEqualTo(1);
+        assertThat(reader.next()).containsExactly("2", "x");
+        assertThat(reader.getRecordNumber()).isEqualTo(2);
+        assertThat(reader.next()).isNull();
+    }
+    
+    @Test
+    void skipsBlankLinesAndKeepsTrailingEmptyFields() throws IOException {
+        CsvReader reader = reader("a,b,c\n\n1,,\r\n\r\n2,3,4");
+        reader.header();
+    
+        assertThat(reader.next()).containsExactly("1", "", "");
+        assertThat(reader.next()).containsExactly("2", "3", "4");
+        assertThat(reader.getRecordNumber()).isEqualTo(2);
+        assertThat(reader.next()).isNull();
+    }
+    
+    @Test
+    void dropsTheByteOrderMarkFromTheHeader() throws IOException {
+        CsvReader reader = reader("\uFEFFusername,email\nalice,alice@example.com\n");
+    
+        List<String> header = reader.header();
+    
+        assertThat(header).containsExactly("username", "email");
+        assertThat(reader.getRecordNumber()).isZero();
+    }
+    
+    @Test
+    void rejectsAnUnterminatedQuotedField() throws IOException {
+        CsvReader reader = reader("a,b\n1,2\n3,\"never closed\n");
+        reader.header();
+        reader.next();
+    
+        assertThatThrownBy(reader::next)
+            .isInstanceOf(IOException.class)
+            .hasMessage("Unterminated quoted field in record 2");
+    }
+    
+    @Test
+    void returnsNullForAnEmptyFile() throws IOException {
+        assertThat(reader("").header()).isNull();
+        assertThat(reader("\n\r\n").header()).isNull();
+    }
+    
+    private static CsvReader reader(String csv) {
+        return new CsvReader(new StringReader(csv));
+    }
+}
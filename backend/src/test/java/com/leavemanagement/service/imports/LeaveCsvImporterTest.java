@@ -0,0 +1,127 @@
+package com.leavemanagement.service.imports;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class LeaveCsvImporterTest {
+    
+    private static final String HEADER = "username,startDate,endDate,leaveType,portion,hours,status,reason,approvedBy\n";
+    
+    private JdbcTemplate jdbcTemplate;
+    
+    private LeaveCsvImporter importer;
+    
+    @BeforeEach
+    void createSchema() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:leave-import;MODE=MySQL;DATABASE_TO_LOWER=TRUE;IGNORECASE=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE users (id BIGINT PRIMARY KEY, tenant_id VARCHAR(64), username VARCHAR(50))");
+        jdbcTemplate.execute("CREATE TABLE leaves (id BIGINT AUTO_INCREMENT PRIMARY KEY, tenant_id VARCHAR(64), " +
+            "user_id BIGINT NOT NULL, start_date DATE, end_date DATE, duration_minutes BIGINT, portion VARCHAR(16), " +
+            "leave_type VARCHAR(20), reason VARCHAR(500), status VARCHAR(20), approved_by BIGINT, " +
+            "manager_comments VARCHAR(500), approved_at TIMESTAMP, created_at TIMESTAMP, updated_at TIMESTAMP)");
+        jdbcTemplate.update("INSERT INTO users (id, tenant_id, username) VALUES " +
+            "(1, 'tenant-a', 'alice'), (2, 'tenant-a', 'boss'), (3, 'tenant-b', 'outsider')");
+    
+        importer = new LeaveCsvImporter();
+        ReflectionTestUtils.setField(importer, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(importer, "namedJdbcTemplate", new NamedParameterJdbcTemplate(jdbcTemplate));
+        ReflectionTestUtils.setField(importer, "transactionManager", new DataSourceTransactionManager(dataSource));
+        ReflectionTestUtils.setField(importer, "chunkSize", 2);
+    }
+    
+    @AfterEach
+    void dropSchema() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+    }
+    
+    @Test
+    void insertsLeavesAsRecorded() throws IOException {
+        ImportJob job = run(HEADER +
+            "Alice,2026-03-02,2026-03-04,annual_leave,,,,\"Family trip, \"\"abroad\"\"\",boss\n" +
+            "alice,2026-04-10,2026-04-10,SICK_LEAVE,HOURS,3,,,\n" +
+            "alice,2026-05-11,2026-05-11,ANNUAL_LEAVE,first_half,,PENDING,,boss\n");
+    
+        assertThat(job.toResponse().getRowsImported()).isEqualTo(3);
+        assertThat(job.getErrors()).isEmpty();
+    
+        Map<String, Object> trip = leave(LocalDate.of(2026, 3, 2));
+        assertThat(trip)
+            .containsEntry("tenant_id", "tenant-a")
+            .containsEntry("user_id", 1L)
+            .containsEntry("duration_minutes", 1440L)
+            .containsEntry("portion", "FULL_DAY")
+            .containsEntry("leave_type", "ANNUAL_LEAVE")
+            .containsEntry("status", "APPROVED")
+            .containsEntry("reason", "Family trip, \"abroad\"")
+            .containsEntry("approved_by", 2L);
+        assertThat(trip.get("approved_at")).isNotNull();
+        assertThat(leave(LocalDate.of(2026, 4, 10)))
+            .containsEntry("duration_minutes", 180L)
+            .containsEntry("portion", "HOURS")
+            .containsEntry("approved_by", null);
+        // Only a decided leave keeps its approver
+        Map<String, Object> pending = leave(LocalDate.of(2026, 5, 11));
+        assertThat(pending)
+            .containsEntry("duration_minutes", 240L)
+            .containsEntry("status", "PENDING")
+            .containsEntry("approved_by", null)
+            .containsEntry("approved_at", null);
+    }
+    
+    @Test
+    void reportsRowErrorsAndImportsTheRest() throws IOException {
+        ImportJob job = run(HEADER +
+            "nobody,2026-03-02,2026-03-02,ANNUAL_LEAVE,,,,,\n" +
+            "outsider,2026-03-02,2026-03-02,ANNUAL_LEAVE,,,,,\n" +
+            "alice,2026-03-02,2026-03-02,ANNUAL_LEAVE,,,,,outsider\n" +
+            "alice,2026-03-05,2026-03-04,ANNUAL_LEAVE,,,,,\n" +
+            "alice,02/03/2026,2026-03-02,ANNUAL_LEAVE,,,,,\n" +
+            "alice,2026-03-02,2026-03-02,SABBATICAL,,,,,\n" +
+            "alice,2026-03-02,2026-03-03,ANNUAL_LEAVE,SECOND_HALF,,,,\n" +
+            "alice,2026-03-02,2026-03-02,ANNUAL_LEAVE,HOURS,8,,,\n" +
+            "alice,2026-03-09,2026-03-09,ANNUAL_LEAVE,,,,,\n");
+    
+        assertThat(job.getErrors())
+            .extracting(ImportJob.RowError::getRow, ImportJob.RowError::getError)
+            .containsExactlyInAnyOrder(
+                tuple(1L, "Unknown user nobody"),
+                // Users and approvers are resolved in the importing tenant only
+                tuple(2L, "Unknown user outsider"),
+                tuple(3L, "Unknown approver outsider"),
+                tuple(4L, "End date must be after start date"),
+                tuple(5L, "startDate must be a date in yyyy-MM-dd format"),
+                tuple(6L, "Unknown leaveType SABBATICAL"),
+                tuple(7L, "Half-day and hourly leave must start and end on the same day"),
+                tuple(8L, "Hourly leave must be between 1 and 7 hours"));
+        assertThat(job.toResponse().getRowsRead()).isEqualTo(9);
+        assertThat(job.toResponse().getRowsImported()).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForList("SELECT start_date FROM leaves", Date.class))
+            .containsExactly(Date.valueOf("2026-03-09"));
+    }
+    
+    private ImportJob run(String csv) throws IOException {
+        ImportJob job = new ImportJob("job", "leaves", "tenant-a", "leaves.csv", 100);
+        importer.run(job, new CsvReader(new StringReader(csv)));
+        return job;
+    }
+    
+    private Map<String, Object> leave(LocalDate startDate) {
+        return jdbcTemplate.queryForMap("SELECT * FROM leaves WHERE start_date = ?", Date.valueOf(startDate));
+    }
+}
@@ -0,0 +1,192 @@
+package com.leavemanagement.service.imports;
+
+import com.leavemanagement.dto.AdminDTO;
+import com.leavemanagement.service.LeaveEntitlementPolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+class UserCsvImporterTest {
+    
+    private static final String HEADER = "username,email,password,fullName,department,roles,leaveBalanceDays,manager\n";
+    
+    private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder(4);
+    
+    private JdbcTemplate jdbcTemplate;
+    
+    private UserCsvImporter importer;
+    
+    // IGNORECASE stands in for the case-insensitive MySQL collation the uniqueness checks rely on
+    @BeforeEach
+    void createSchema() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:user-import;MODE=MySQL;DATABASE_TO_LOWER=TRUE;IGNORECASE=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE users (id BIGINT AUTO_INCREMENT PRIMARY KEY, tenant_id VARCHAR(64), " +
+            "username VARCHAR(50) NOT NULL UNIQUE, email VARCHAR(100) NOT NULL UNIQUE, password VARCHAR(255), " +
+            "full_name VARCHAR(100), department VARCHAR(100), leave_balance_minutes BIGINT, enabled BOOLEAN, " +
+            "manager_id BIGINT, created_at TIMESTAMP, updated_at TIMESTAMP)");
+        jdbcTemplate.execute("CREATE TABLE user_roles (user_id BIGINT, role VARCHAR(20))");
+        jdbcTemplate.execute("CREATE TABLE user_hierarchy (ancestor_id BIGINT, descendant_id BIGINT, depth INT)");
+    
+        LeaveEntitlementPolicy policy = new LeaveEntitlementPolicy();
+        ReflectionTestUtils.setField(policy, "annualEntitlement", "20.0");
+        ReflectionTestUtils.setField(policy, "carryOverCap", "5.0");
+        ReflectionTestUtils.setField(policy, "typeEntitlements", "");
+        ReflectionTestUtils.setField(policy, "typeCarryOverCaps", "");
+        policy.init();
+    
+        importer = new UserCsvImporter();
+        ReflectionTestUtils.setField(importer, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(importer, "namedJdbcTemplate", new NamedParameterJdbcTemplate(jdbcTemplate));
+        ReflectionTestUtils.setField(importer, "passwordEncoder", passwordEncoder);
+        ReflectionTestUtils.setField(importer, "transactionManager", new DataSourceTransactionManager(dataSource));
+        ReflectionTestUtils.setField(importer, "leaveEntitlementPolicy", policy);
+        ReflectionTestUtils.setField(importer, "hashThreads", 2);
+        ReflectionTestUtils.setField(importer, "chunkSize", 2);
+        importer.init();
+    }
+    
+    @AfterEach
+    void dropSchema() {
+        importer.shutdown();
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+    }
+    
+    @Test
+    void importsUsersWithRolesBalancesAndReportingLinesAcrossChunks() throws IOException {
+        ImportJob job = run(HEADER +
+            "boss,boss@example.com,secret1,The Boss,Sales,MANAGER;employee,,\n" +
+            "alice,alice@example.com,secret2,\"Smith, Alice\",Sales,,12.5,BOSS\n" +
+            "bob,bob@example.com,secret3,Bob,Sales,,,alice\n");
+    
+        AdminDTO.ImportJobResponse result = job.toResponse();
+        assertThat(result.getRowsRead()).isEqualTo(3);
+        assertThat(result.getRowsImported()).isEqualTo(3);
+        assertThat(result.getRowsFailed()).isZero();
+    
+        long boss = id("boss");
+        long alice = id("alice");
+        long bob = id("bob");
+        assertThat(jdbcTemplate.queryForMap("SELECT tenant_id, full_name, leave_balance_minutes, manager_id FROM users WHERE id = ?", alice))
+            .containsEntry("tenant_id", "tenant-a")
+            .containsEntry("full_name", "Smith, Alice")
+            .containsEntry("leave_balance_minutes", 6000L)
+            .containsEntry("manager_id", boss);
+        // A blank balance falls back to the configured entitlement
+        assertThat(jdbcTemplate.queryForObject("SELECT leave_balance_minutes FROM users WHERE id = ?", Long.class, bob)).isEqualTo(9600);
+        assertThat(passwordEncoder.matches("secret3",
+            jdbcTemplate.queryForObject("SELECT password FROM users WHERE id = ?", String.class, bob))).isTrue();
+        assertThat(jdbcTemplate.queryForList("SELECT role FROM user_roles WHERE user_id = ?", String.class, boss))
+            .containsExactlyInAnyOrder("MANAGER", "EMPLOYEE");
+        assertThat(jdbcTemplate.queryForList("SELECT role FROM user_roles WHERE user_id = ?", String.class, bob))
+            .containsExactly("EMPLOYEE");
+        // Bob's manager was imported in the previous chunk; his paths run up through Alice to the boss
+        assertThat(jdbcTemplate.queryForList("SELECT ancestor_id, depth FROM user_hierarchy WHERE descendant_id = ?", bob))
+            .extracting(row -> row.get("ancestor_id"), row -> row.get("depth"))
+            .containsExactlyInAnyOrder(tuple(bob, 0), tuple(alice, 1), tuple(boss, 2));
+    }
+    
+    @Test
+    void rejectsUsernamesAndEmailsRepeatedInTheFile() throws IOException {
+        ImportJob job = run(HEADER +
+            "alice,alice@example.com,secret1,Alice,,,,\n" +
+            "ALICE,other@example.com,secret2,Alice Again,,,,\n" +
+            "carol,Alice@Example.com,secret3,Carol,,,,\n" +
+            "dave,not-an-email,secret4,Dave,,,,\n" +
+            "dave,dave@example.com,secret5,Dave,,,,\n");
+    
+        assertThat(job.toResponse().getRowsImported()).isEqualTo(2);
+        assertThat(job.getErrors())
+            .extracting(ImportJob.RowError::getRow, ImportJob.RowError::getError)
+            .containsExactly(
+                tuple(2L, "Duplicate username ALICE in file"),
+                tuple(3L, "Duplicate email Alice@Example.com in file"),
+                tuple(4L, "Invalid email format"));
+        // The row that failed validation did not reserve the username
+        assertThat(jdbcTemplate.queryForList("SELECT username FROM users ORDER BY id", String.class))
+            .containsExactly("alice", "dave");
+    }
+    
+    @Test
+    void rejectsUsersThatAlreadyExistInAnyTenant() throws IOException {
+        jdbcTemplate.update("INSERT INTO users (tenant_id, username, email) VALUES ('tenant-b', 'existing', 'existing@example.com')");
+    
+        ImportJob job = run(HEADER +
+            "Existing,new@example.com,secret1,Existing,,,,\n" +
+            "newcomer,EXISTING@example.com,secret2,Newcomer,,,,\n" +
+            "frank,frank@example.com,secret3,Frank,,,,existing\n" +
+            "grace,grace@example.com,secret4,Grace,,,,grace\n" +
+            "heidi,heidi@example.com,secret5,Heidi,,,,ivan\n" +
+            "ivan,ivan@example.com,secret6,Ivan,,,,\n");
+    
+        assertThat(job.getErrors())
+            .extracting(ImportJob.RowError::getRow, ImportJob.RowError::getError)
+            .containsExactly(
+                tuple(1L, "Username already exists"),
+                tuple(2L, "Email already exists"),
+                // Managers are looked up in the importing tenant only
+                tuple(3L, "Manager existing not found; managers must exist or appear earlier in the file"),
+                tuple(4L, "A user cannot be their own manager"),
+                tuple(5L, "Manager ivan not found; managers must exist or appear earlier in the file"));
+        assertThat(job.toResponse().getRowsImported()).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForList("SELECT username FROM users WHERE tenant_id = 'tenant-a'", String.class))
+            .containsExactly("ivan");
+    }
+    
+    @Test
+    void reportsInvalidRowsAndImportsTheRest() throws IOException {
+        ImportJob job = run(HEADER +
+            "jo,jo@example.com,secret1,Jo,,,,\n" +
+            "kim,kim@example.com,short,Kim,,,,\n" +
+            "lee,lee@example.com,secret3,,,,,\n" +
+            "max,max@example.com,secret4,Max,,EMPLOYEE;OWNER,,\n" +
+            "ned,ned@example.com,secret5,Ned,,,many,\n" +
+            "oli,oli@example.com,secret6,Oli,,,-1,\n" +
+            "pat,pat@example.com,secret7,Pat,,,,\n");
+    
+        assertThat(job.getErrors())
+            .extracting(ImportJob.RowError::getRow, ImportJob.RowError::getError)
+            .containsExactly(
+                tuple(1L, "username must be 3 to 50 characters"),
+                tuple(2L, "Password must be at least 6 characters"),
+                tuple(3L, "fullName is required"),
+                tuple(4L, "Unknown role OWNER"),
+                tuple(5L, "leaveBalanceDays must be a number of days"),
+                tuple(6L, "leaveBalanceDays cannot be negative"));
+        AdminDTO.ImportJobResponse result = job.toResponse();
+        assertThat(result.getRowsRead()).isEqualTo(7);
+        assertThat(result.getRowsImported()).isEqualTo(1);
+        assertThat(result.getRowsFailed()).isEqualTo(6);
+    }
+    
+    @Test
+    void failsTheWholeFileWhenARequiredColumnIsMissing() {
+        assertThatThrownBy(() -> run("username,password,fullName\nalice,secret1,Alice\n"))
+            .hasMessage("Missing column: email");
+        assertThatThrownBy(() -> run(""))
+            .hasMessage("The file is empty");
+    }
+    
+    private ImportJob run(String csv) throws IOException {
+        ImportJob job = new ImportJob("job", "users", "tenant-a", "users.csv", 100);
+        importer.run(job, new CsvReader(new StringReader(csv)));
+        return job;
+    }
+    
+    private long id(String username) {
+        return jdbcTemplate.queryForObject("SELECT id FROM users WHERE username = ?", Long.class, username);
+    }
+}
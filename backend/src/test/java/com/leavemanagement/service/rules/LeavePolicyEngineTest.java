@@ -0,0 +1,125 @@
+package com.leavemanagement.service.rules;
+
+import com.leavemanagement.model.Leave.DayPortion;
+import com.leavemanagement.model.Leave.LeaveType;
+import com.leavemanagement.model.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LeavePolicyEngineTest {
+    
+    private final List<String> evaluated = new ArrayList<>();
+    
+    private final DepartmentPolicyCache departmentPolicyCache = mock(DepartmentPolicyCache.class);
+    
+    @Test
+    void evaluatesRulesCheapestFirst() {
+        LeavePolicyEngine engine = engine(
+            new RecordingRule("query", LeaveRule.QUERY, null, false),
+            new RecordingRule("in-memory", LeaveRule.IN_MEMORY, null, false),
+            new RecordingRule("cached", LeaveRule.CACHED, null, false));
+        
+        engine.validate(user(), tomorrow(), tomorrow(), LeaveType.ANNUAL_LEAVE, DayPortion.FULL_DAY, 0);
+        
+        assertThat(evaluated).containsExactly("in-memory", "cached", "query");
+    }
+    
+    @Test
+    void stopsAtFirstViolation() {
+        LeavePolicyEngine engine = engine(
+            new RecordingRule("query", LeaveRule.QUERY, null, false),
+            new RecordingRule("in-memory", LeaveRule.IN_MEMORY, "rejected", false),
+            new RecordingRule("cached", LeaveRule.CACHED, null, true));
+        
+        assertThatThrownBy(() -> engine.validate(user(), tomorrow(), tomorrow(), LeaveType.ANNUAL_LEAVE,
+            DayPortion.FULL_DAY, 0)).hasMessage("rejected");
+        
+        assertThat(evaluated).containsExactly("in-memory");
+    }
+    
+    @Test
+    void loadsDepartmentDataOnlyWhenACachedRuleRuns() {
+        LeavePolicyEngine engine = engine(
+            new RecordingRule("in-memory", LeaveRule.IN_MEMORY, "rejected", false),
+            new RecordingRule("cached", LeaveRule.CACHED, null, true));
+        
+        assertThatThrownBy(() -> engine.validate(user(), tomorrow(), tomorrow(), LeaveType.ANNUAL_LEAVE,
+            DayPortion.FULL_DAY, 0)).hasMessage("rejected");
+        verify(departmentPolicyCache, never()).get(any());
+    }
+    
+    @Test
+    void loadsDepartmentDataOncePerApplication() {
+        when(departmentPolicyCache.get("Engineering"))
+            .thenReturn(new DepartmentPolicyContext("Engineering", 10, null, List.of(), 0));
+        LeavePolicyEngine engine = engine(
+            new RecordingRule("cached", LeaveRule.CACHED, null, true),
+            new RecordingRule("query", LeaveRule.QUERY, null, true));
+        
+        engine.validate(user(), tomorrow(), tomorrow(), LeaveType.ANNUAL_LEAVE, DayPortion.FULL_DAY, 0);
+        
+        verify(departmentPolicyCache).get("Engineering");
+    }
+    
+    private LeavePolicyEngine engine(LeaveRule... rules) {
+        LeavePolicyEngine engine = new LeavePolicyEngine();
+        ReflectionTestUtils.setField(engine, "rules", List.of(rules));
+        ReflectionTestUtils.setField(engine, "departmentPolicyCache", departmentPolicyCache);
+        engine.compile();
+        return engine;
+    }
+    
+    private static User user() {
+        User user = new User();
+        user.setId(1L);
+        user.setDepartment("Engineering");
+        return user;
+    }
+    
+    private static LocalDate tomorrow() {
+        return LocalDate.now().plusDays(1);
+    }
+    
+    private class RecordingRule implements LeaveRule {
+        
+        private final String name;
+        
+        private final int cost;
+        
+        private final String violation;
+        
+        private final boolean readsDepartment;
+        
+        RecordingRule(String name, int cost, String violation, boolean readsDepartment) {
+            this.name = name;
+            this.cost = cost;
+            this.violation = violation;
+            this.readsDepartment = readsDepartment;
+        }
+        
+        @Override
+        public int cost() {
+            return cost;
+        }
+        
+        @Override
+        public String evaluate(LeaveApplication application) {
+            evaluated.add(name);
+            if (readsDepartment) {
+                application.getDepartmentContext();
+            }
+            return violation;
+        }
+    }
+}
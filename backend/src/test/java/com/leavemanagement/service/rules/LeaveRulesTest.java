@@ -0,0 +1,228 @@
+package com.leavemanagement.service.rules;
+
+import com.leavemanagement.model.Leave;
+import com.leavemanagement.model.Leave.DayPortion;
+import com.leavemanagement.model.Leave.LeaveType;
+import com.leavemanagement.model.LeaveBlackoutPeriod;
+import com.leavemanagement.model.LeaveUnits;
+import com.leavemanagement.model.User;
+import com.leavemanagement.repository.LeaveRepository;
+import com.leavemanagement.service.LeaveEntitlementPolicy;
+import com.leavemanagement.service.LeaveTypeBalanceService;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LeaveRulesTest {
+    
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 2);
+    
+    private final LeaveRepository leaveRepository = mock(LeaveRepository.class);
+    
+    private DepartmentPolicyContext context = new DepartmentPolicyContext("Engineering", 10, null, List.of(), 0);
+    
+    @Test
+    void dateRangeRejectsPastStartAndReversedRange() {
+        DateRangeRule rule = new DateRangeRule();
+        
+        assertThat(rule.evaluate(application(TODAY.minusDays(1), TODAY, LeaveType.ANNUAL_LEAVE))).isNotNull();
+        assertThat(rule.evaluate(application(TODAY.plusDays(3), TODAY.plusDays(2), LeaveType.ANNUAL_LEAVE))).isNotNull();
+        assertThat(rule.evaluate(application(TODAY, TODAY, LeaveType.ANNUAL_LEAVE))).isNull();
+    }
+    
+    @Test
+    void dayPortionRequiresASingleDayAndValidHours() {
+        DayPortionRule rule = new DayPortionRule();
+        
+        assertThat(rule.evaluate(application(TODAY, TODAY.plusDays(1), DayPortion.FIRST_HALF, 0))).isNotNull();
+        assertThat(rule.evaluate(application(TODAY, TODAY, DayPortion.HOURS, 0))).isNotNull();
+        assertThat(rule.evaluate(application(TODAY, TODAY, DayPortion.HOURS, LeaveUnits.MAX_HOURS + 1))).isNotNull();
+        assertThat(rule.evaluate(application(TODAY, TODAY, DayPortion.HOURS, 2))).isNull();
+        assertThat(rule.evaluate(application(TODAY, TODAY, DayPortion.SECOND_HALF, 0))).isNull();
+    }
+    
+    @Test
+    void maxConsecutiveDaysAppliesOnlyToListedTypes() {
+        MaxConsecutiveDaysRule rule = new MaxConsecutiveDaysRule();
+        ReflectionTestUtils.setField(rule, "maxConsecutiveDays", "CASUAL_LEAVE:3");
+        rule.compile();
+        
+        assertThat(rule.evaluate(application(TODAY, TODAY.plusDays(3), LeaveType.CASUAL_LEAVE))).isNotNull();
+        assertThat(rule.evaluate(application(TODAY, TODAY.plusDays(2), LeaveType.CASUAL_LEAVE))).isNull();
+        assertThat(rule.evaluate(application(TODAY, TODAY.plusDays(30), LeaveType.ANNUAL_LEAVE))).isNull();
+    }
+    
+    @Test
+    void maxConsecutiveDaysIsUnlimitedByDefault() {
+        MaxConsecutiveDaysRule rule = new MaxConsecutiveDaysRule();
+        ReflectionTestUtils.setField(rule, "maxConsecutiveDays", "");
+        rule.compile();
+        
+        assertThat(rule.evaluate(application(TODAY, TODAY.plusDays(200), LeaveType.CASUAL_LEAVE))).isNull();
+    }
+    
+    @Test
+    void noticePeriodCountsDaysFromToday() {
+        NoticePeriodRule rule = new NoticePeriodRule();
+        ReflectionTestUtils.setField(rule, "noticeDays", "ANNUAL_LEAVE:7");
+        rule.compile();
+        
+        assertThat(rule.evaluate(application(TODAY.plusDays(6), TODAY.plusDays(6), LeaveType.ANNUAL_LEAVE))).isNotNull();
+        assertThat(rule.evaluate(application(TODAY.plusDays(7), TODAY.plusDays(7), LeaveType.ANNUAL_LEAVE))).isNull();
+        assertThat(rule.evaluate(application(TODAY, TODAY, LeaveType.SICK_LEAVE))).isNull();
+    }
+    
+    @Test
+    void noticePeriodIsNotRequiredByDefault() {
+        NoticePeriodRule rule = new NoticePeriodRule();
+        ReflectionTestUtils.setField(rule, "noticeDays", "");
+        rule.compile();
+        
+        assertThat(rule.evaluate(application(TODAY, TODAY, LeaveType.ANNUAL_LEAVE))).isNull();
+    }
+    
+    @Test
+    void balanceRuleComparesMinutes() {
+        LeaveBalanceRule rule = new LeaveBalanceRule();
+        ReflectionTestUtils.setField(rule, "leaveEntitlementPolicy", entitlementPolicy("SICK_LEAVE:10"));
+        User user = user(LeaveUnits.MINUTES_PER_HALF_DAY);
+        
+        assertThat(rule.evaluate(application(user, TODAY, TODAY, DayPortion.FULL_DAY, 0))).isNotNull();
+        assertThat(rule.evaluate(application(user, TODAY, TODAY, DayPortion.FIRST_HALF, 0))).isNull();
+        assertThat(rule.evaluate(application(user, TODAY, TODAY, DayPortion.HOURS, 4))).isNull();
+        assertThat(rule.evaluate(application(user, TODAY, TODAY, DayPortion.HOURS, 5))).isNotNull();
+    }
+    
+    @Test
+    void balanceRuleLeavesTypesWithTheirOwnBalanceAlone() {
+        LeaveBalanceRule rule = new LeaveBalanceRule();
+        ReflectionTestUtils.setField(rule, "leaveEntitlementPolicy", entitlementPolicy("SICK_LEAVE:10"));
+        User user = user(0);
+        
+        assertThat(rule.evaluate(new LeaveApplication(user, TODAY, TODAY, LeaveType.SICK_LEAVE, DayPortion.FULL_DAY, 0,
+            TODAY, department -> context))).isNull();
+        assertThat(rule.evaluate(new LeaveApplication(user, TODAY, TODAY, LeaveType.CASUAL_LEAVE, DayPortion.FULL_DAY, 0,
+            TODAY, department -> context))).isNotNull();
+    }
+    
+    @Test
+    void typeBalanceRuleChecksTheTypesOwnBalance() {
+        LeaveTypeBalanceRule rule = new LeaveTypeBalanceRule();
+        LeaveTypeBalanceService balances = mock(LeaveTypeBalanceService.class);
+        ReflectionTestUtils.setField(rule, "leaveEntitlementPolicy", entitlementPolicy("SICK_LEAVE:10"));
+        ReflectionTestUtils.setField(rule, "leaveTypeBalanceService", balances);
+        User user = user(LeaveUnits.ofDays(20));
+        when(balances.getRemainingMinutes(user, LeaveType.SICK_LEAVE)).thenReturn(LeaveUnits.ofDays(1));
+        
+        assertThat(rule.evaluate(new LeaveApplication(user, TODAY, TODAY, LeaveType.SICK_LEAVE, DayPortion.FULL_DAY, 0,
+            TODAY, department -> context))).isNull();
+        assertThat(rule.evaluate(new LeaveApplication(user, TODAY, TODAY.plusDays(1), LeaveType.SICK_LEAVE, DayPortion.FULL_DAY, 0,
+            TODAY, department -> context))).contains("SICK_LEAVE");
+        assertThat(rule.evaluate(application(TODAY, TODAY.plusDays(30), LeaveType.ANNUAL_LEAVE))).isNull();
+    }
+    
+    @Test
+    void blackoutRejectsOverlapUnlessTypeIsExempt() {
+        BlackoutPeriodRule rule = new BlackoutPeriodRule();
+        ReflectionTestUtils.setField(rule, "exemptTypes", "SICK_LEAVE");
+        rule.compile();
+        LeaveBlackoutPeriod blackout = new LeaveBlackoutPeriod();
+        blackout.setStartDate(TODAY.plusDays(10));
+        blackout.setEndDate(TODAY.plusDays(12));
+        blackout.setReason("Release");
+        context = new DepartmentPolicyContext("Engineering", 10, null, List.of(blackout), 0);
+        
+        assertThat(rule.evaluate(application(TODAY.plusDays(12), TODAY.plusDays(14), LeaveType.ANNUAL_LEAVE)))
+            .contains("Release");
+        assertThat(rule.evaluate(application(TODAY.plusDays(13), TODAY.plusDays(14), LeaveType.ANNUAL_LEAVE))).isNull();
+        assertThat(rule.evaluate(application(TODAY.plusDays(10), TODAY.plusDays(10), LeaveType.SICK_LEAVE))).isNull();
+    }
+    
+    @Test
+    void overlapAllowsTheOtherHalfOfTheSameDay() {
+        OverlappingLeaveRule rule = new OverlappingLeaveRule();
+        ReflectionTestUtils.setField(rule, "leaveRepository", leaveRepository);
+        Leave morning = new Leave();
+        morning.setPortion(DayPortion.FIRST_HALF);
+        when(leaveRepository.findOverlappingLeaves(anyLong(), any(), any())).thenReturn(List.of(morning));
+        
+        assertThat(rule.evaluate(application(TODAY, TODAY, DayPortion.SECOND_HALF, 0))).isNull();
+        assertThat(rule.evaluate(application(TODAY, TODAY, DayPortion.FIRST_HALF, 0))).isNotNull();
+        assertThat(rule.evaluate(application(TODAY, TODAY, DayPortion.FULL_DAY, 0))).isNotNull();
+    }
+    
+    @Test
+    void coverageCountsEachPersonOncePerDay() {
+        TeamCoverageRule rule = coverageRule(50, 4);
+        // One colleague with two leaves on the same day is one person away: 4 - 1 - 1 = 2 of 4 at work
+        List<Object[]> ranges = new ArrayList<>();
+        ranges.add(new Object[] {2L, TODAY, TODAY});
+        ranges.add(new Object[] {2L, TODAY, TODAY.plusDays(1)});
+        when(leaveRepository.findApprovedFullDayRangesInDepartment(eq("Engineering"), eq(1L), any(), any()))
+            .thenReturn(ranges);
+        
+        assertThat(rule.evaluate(application(TODAY, TODAY, LeaveType.ANNUAL_LEAVE))).isNull();
+        
+        ranges.add(new Object[] {3L, TODAY.plusDays(1), TODAY.plusDays(1)});
+        assertThat(rule.evaluate(application(TODAY, TODAY.plusDays(1), LeaveType.ANNUAL_LEAVE)))
+            .contains(TODAY.plusDays(1).toString());
+    }
+    
+    @Test
+    void coverageIgnoresPartDayApplicationsAndDepartmentsWithoutMinimum() {
+        TeamCoverageRule rule = coverageRule(100, 4);
+        
+        assertThat(rule.evaluate(application(TODAY, TODAY, DayPortion.FIRST_HALF, 0))).isNull();
+        
+        context = new DepartmentPolicyContext("Engineering", 4, null, List.of(), 0);
+        assertThat(rule.evaluate(application(TODAY, TODAY, LeaveType.ANNUAL_LEAVE))).isNull();
+    }
+    
+    private TeamCoverageRule coverageRule(int minCoveragePercent, long headcount) {
+        TeamCoverageRule rule = new TeamCoverageRule();
+        ReflectionTestUtils.setField(rule, "leaveRepository", leaveRepository);
+        context = new DepartmentPolicyContext("Engineering", headcount, minCoveragePercent, List.of(), 0);
+        return rule;
+    }
+    
+    private LeaveApplication application(LocalDate start, LocalDate end, LeaveType type) {
+        return new LeaveApplication(user(LeaveUnits.ofDays(20)), start, end, type, DayPortion.FULL_DAY, 0, TODAY,
+            department -> context);
+    }
+    
+    private LeaveApplication application(LocalDate start, LocalDate end, DayPortion portion, int hours) {
+        return application(user(LeaveUnits.ofDays(20)), start, end, portion, hours);
+    }
+    
+    private LeaveApplication application(User user, LocalDate start, LocalDate end, DayPortion portion, int hours) {
+        return new LeaveApplication(user, start, end, LeaveType.ANNUAL_LEAVE, portion, hours, TODAY,
+            department -> context);
+    }
+    
+    private static LeaveEntitlementPolicy entitlementPolicy(String typeEntitlements) {
+        LeaveEntitlementPolicy policy = new LeaveEntitlementPolicy();
+        ReflectionTestUtils.setField(policy, "annualEntitlement", "20");
+        ReflectionTestUtils.setField(policy, "carryOverCap", "5");
+        ReflectionTestUtils.setField(policy, "typeEntitlements", typeEntitlements);
+        ReflectionTestUtils.setField(policy, "typeCarryOverCaps", "");
+        policy.init();
+        return policy;
+    }
+    
+    private static User user(long balanceMinutes) {
+        User user = new User();
+        user.setId(1L);
+        user.setDepartment("Engineering");
+        user.setLeaveBalanceMinutes(balanceMinutes);
+        return user;
+    }
+}
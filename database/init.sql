@@ -8,16 +8,16 @@ USE leave_management_db;
 -- Note: The application will create tables automatically, so you only need to insert users after first run
 
 -- Demo Employee
--- INSERT INTO users (username, email, password, full_name, department, leave_balance, enabled, created_at, updated_at)
+-- INSERT INTO users (username, email, password, full_name, department, leave_balance_minutes, enabled, created_at, updated_at)
 -- VALUES ('employee', 'employee@company.com', '$2a$10$XptfskLsT0wq4fHJH6nJiO5hFZ2VXqjEtVqYHXxXxXxXxXxXxXxXx', 
---         'John Employee', 'IT Department', 20.0, true, NOW(), NOW());
+--         'John Employee', 'IT Department', 9600, true, NOW(), NOW());
 
 -- INSERT INTO user_roles (user_id, role) VALUES (1, 'EMPLOYEE');
 
 -- Demo Manager
--- INSERT INTO users (username, email, password, full_name, department, leave_balance, enabled, created_at, updated_at)
+-- INSERT INTO users (username, email, password, full_name, department, leave_balance_minutes, enabled, created_at, updated_at)
 -- VALUES ('manager', 'manager@company.com', '$2a$10$XptfskLsT0wq4fHJH6nJiO5hFZ2VXqjEtVqYHXxXxXxXxXxXxXxXx', 
---         'Jane Manager', 'Management', 20.0, true, NOW(), NOW());
+--         'Jane Manager', 'Management', 9600, true, NOW(), NOW());
 
 -- INSERT INTO user_roles (user_id, role) VALUES (2, 'MANAGER');
 
@@ -0,0 +1,25 @@
+-- Fixed-point leave units: durations and balances move from days (DOUBLE / INT) to minutes (BIGINT).
+-- One working day is 480 minutes. The backend applies this automatically on startup (LeaveUnitsMigration);
+-- run it by hand only for deployments with spring.jpa.hibernate.ddl-auto=none, before starting the new version.
+
+USE leave_management_db;
+
+ALTER TABLE users ADD COLUMN leave_balance_minutes BIGINT NOT NULL DEFAULT 0;
+UPDATE users SET leave_balance_minutes = ROUND(leave_balance * 480);
+ALTER TABLE users DROP COLUMN leave_balance;
+
+ALTER TABLE leaves
+    ADD COLUMN duration_minutes BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN portion VARCHAR(16) NOT NULL DEFAULT 'FULL_DAY';
+UPDATE leaves SET duration_minutes = number_of_days * 480;
+ALTER TABLE leaves DROP COLUMN number_of_days;
+
+ALTER TABLE leaves_archive
+    ADD COLUMN duration_minutes BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN portion VARCHAR(16) NOT NULL DEFAULT 'FULL_DAY';
+UPDATE leaves_archive SET duration_minutes = number_of_days * 480;
+ALTER TABLE leaves_archive DROP COLUMN number_of_days;
+
+ALTER TABLE leave_audit_log ADD COLUMN balance_delta_minutes BIGINT NOT NULL DEFAULT 0;
+UPDATE leave_audit_log SET balance_delta_minutes = ROUND(balance_delta * 480);
+ALTER TABLE leave_audit_log DROP COLUMN balance_delta;
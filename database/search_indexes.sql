@@ -0,0 +1,6 @@
+-- FULLTEXT indexes for GET /api/manager/leaves/search
+-- Created automatically on startup when app.search.create-indexes=true; run manually otherwise.
+USE leave_management_db;
+
+ALTER TABLE leaves ADD FULLTEXT INDEX ft_leaves_text (reason, manager_comments);
+ALTER TABLE users ADD FULLTEXT INDEX ft_users_text (full_name, email, department);